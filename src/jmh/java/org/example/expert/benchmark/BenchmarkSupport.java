@@ -0,0 +1,44 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.JwtUtil;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+
+final class BenchmarkSupport {
+
+    private static final String SECRET_KEY =
+            Base64.getEncoder().encodeToString("benchmark-secret-key-for-jwt-hs256-signing!".getBytes());
+
+    private BenchmarkSupport() {
+    }
+
+    // @Value 로 주입되는 secretKey 를 직접 넣어 JwtUtil 을 초기화합니다.
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = findField(target.getClass(), name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Field findField(Class<?> type, String name) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException ignored) {
+                // 상위 클래스에서 계속 찾습니다.
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.config.json.JsonConfig;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos 응답(Page<TodoResponse>, 100 개)을 JSON byte 로 직렬화하는 비용을 설정별로 비교합니다.
+ * ObjectMapper 는 스프링 부트와 같이 Jackson2ObjectMapperBuilder 로 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    // default: reflection + JavaTimeModule, blackbird: + BlackbirdModule, blackbird-iso: + IsoLocalDateTimeSerializer
+    @Param({"default", "blackbird", "blackbird-iso"})
+    private String mode;
+
+    private ObjectMapper objectMapper;
+    private Page<TodoResponse> page;
+
+    @Setup
+    public void setUp() {
+        JsonConfig jsonConfig = new JsonConfig();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (mode.equals("blackbird")) {
+            builder.modulesToInstall(jsonConfig.blackbirdModule());
+        } else if (mode.equals("blackbird-iso")) {
+            builder.modulesToInstall(jsonConfig.blackbirdModule(), jsonConfig.isoLocalDateTimeModule());
+        }
+        objectMapper = builder.build();
+
+        List<TodoResponse> todos = new ArrayList<>(100);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 100; i++) {
+            UserResponse user = new UserResponse((long) i, "user" + i + "@example.com");
+            todos.add(new TodoResponse((long) i, "title " + i, "contents " + i, "Sunny", user,
+                    now.minusMinutes(i), now.minusSeconds(i)));
+        }
+        page = new PageImpl<>(todos, PageRequest.of(0, 100), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
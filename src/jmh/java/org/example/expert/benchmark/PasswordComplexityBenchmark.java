@@ -0,0 +1,33 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.user.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordComplexityBenchmark {
+
+    @Param({"Password1", "LongerPassword1234567890WithDigitsAtTheEnd"})
+    private String password;
+
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        // validatePasswordComplexity 는 의존성을 사용하지 않습니다.
+        userService = new UserService(null, null, null);
+    }
+
+    @Benchmark
+    public void validatePasswordComplexity(Blackhole blackhole) {
+        userService.validatePasswordComplexity(password);
+        blackhole.consume(password);
+    }
+}
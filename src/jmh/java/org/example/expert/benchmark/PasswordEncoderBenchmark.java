@@ -0,0 +1,40 @@
+package org.example.expert.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"8", "64"})
+    private int passwordLength;
+
+    private PasswordEncoder passwordEncoder;
+    private String rawPassword;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry());
+        rawPassword = "Aa1".repeat(passwordLength / 3 + 1).substring(0, passwordLength);
+        encodedPassword = passwordEncoder.encode(rawPassword);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(rawPassword, encodedPassword);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TodoService.getTodos 의 엔티티 -> TodoResponse 매핑 비용을 측정합니다. repository 는 미리 만든 페이지를 돌려줍니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private TodoService todoService;
+
+    @Setup
+    public void setUp() {
+        List<Todo> todos = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < pageSize; i++) {
+            User user = new User("user" + i + "@example.com", "password", UserRole.USER);
+            BenchmarkSupport.setField(user, "id", (long) i);
+            Todo todo = new Todo("title " + i, "contents " + i, "Sunny", user);
+            BenchmarkSupport.setField(todo, "id", (long) i);
+            BenchmarkSupport.setField(todo, "createdAt", now);
+            BenchmarkSupport.setField(todo, "modifiedAt", now);
+            todos.add(todo);
+        }
+
+        TodoRepository todoRepository = (TodoRepository) Proxy.newProxyInstance(
+                TodoRepository.class.getClassLoader(),
+                new Class<?>[]{TodoRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllByOrderByModifiedAtDesc")) {
+                        return new PageImpl<>(todos, (Pageable) args[0], 10_000);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        todoService = new TodoService(todoRepository, new WeatherClient(new RestTemplateBuilder(), "http://localhost", new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Page<TodoResponse> getTodos() {
+        return todoService.getTodos(1, pageSize);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.limit.RateLimitResult;
+import org.example.expert.config.limit.RateLimitRule;
+import org.example.expert.config.limit.RouteClass;
+import org.example.expert.config.limit.UserRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserRateLimiterBenchmark {
+
+    // 요청을 보내는 사용자 수. 1 이면 한 사용자의 bucket 에 경합이 몰립니다.
+    @Param({"1", "10000"})
+    private int users;
+
+    private UserRateLimiter limiter;
+
+    @Setup
+    public void setUp() {
+        Map<RouteClass, RateLimitRule> rules = new EnumMap<>(RouteClass.class);
+        for (RouteClass routeClass : RouteClass.values()) {
+            rules.put(routeClass, new RateLimitRule(1_000_000, 1000));
+        }
+        limiter = new UserRateLimiter(new SimpleMeterRegistry(), true, 65536, rules,
+                TimeUnit.SECONDS.toNanos(60), System::nanoTime);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public RateLimitResult tryAcquire() {
+        long userId = users == 1 ? 1 : ThreadLocalRandom.current().nextInt(users) + 1;
+        return limiter.tryAcquire(userId, RouteClass.READ);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * dataset.* 시스템 프로퍼티로 받는 데이터 생성 설정.
+ * gradle 에서는 -Pdataset.xxx=... 로 넘기면 됩니다.
+ */
+final class DatasetConfig {
+
+    private static final String SPRING_PREFIX = "dataset.spring.";
+
+    final int users;
+    final int todos;
+    final long comments;
+    // 일정마다 작성자 외에 추가로 붙는 담당자 수의 최대값
+    final int maxExtraManagers;
+    final double ownerSkew;
+    final double managerSkew;
+    final double commentSkew;
+    final double adminRatio;
+    final long seed;
+    final int batchSize;
+    final int writers;
+    final String password;
+    // dataset.spring.xxx=yyy 는 애플리케이션 프로퍼티 xxx=yyy 로 전달됩니다. (datasource 지정 등)
+    final Map<String, String> springProperties;
+
+    private DatasetConfig(Properties props) {
+        this.users = Integer.parseInt(props.getProperty("dataset.users", "10000"));
+        this.todos = Integer.parseInt(props.getProperty("dataset.todos", "100000"));
+        this.comments = Long.parseLong(props.getProperty("dataset.comments", "1000000"));
+        this.maxExtraManagers = Integer.parseInt(props.getProperty("dataset.maxExtraManagers", "4"));
+        double skew = Double.parseDouble(props.getProperty("dataset.zipf", "1.1"));
+        this.ownerSkew = Double.parseDouble(props.getProperty("dataset.zipf.owner", String.valueOf(skew)));
+        this.managerSkew = Double.parseDouble(props.getProperty("dataset.zipf.manager", String.valueOf(skew)));
+        this.commentSkew = Double.parseDouble(props.getProperty("dataset.zipf.comment", String.valueOf(skew)));
+        this.adminRatio = Double.parseDouble(props.getProperty("dataset.adminRatio", "0.01"));
+        this.seed = Long.parseLong(props.getProperty("dataset.seed", "42"));
+        this.batchSize = Integer.parseInt(props.getProperty("dataset.batchSize", "1000"));
+        this.writers = Integer.parseInt(props.getProperty("dataset.writers", "4"));
+        this.password = props.getProperty("dataset.password", "Dataset1234");
+
+        Map<String, String> spring = new LinkedHashMap<>();
+        for (String name : props.stringPropertyNames()) {
+            if (name.startsWith(SPRING_PREFIX)) {
+                spring.put(name.substring(SPRING_PREFIX.length()), props.getProperty(name));
+            }
+        }
+        this.springProperties = spring;
+
+        if (users < 1 || todos < 0 || comments < 0) {
+            throw new IllegalArgumentException("dataset.users 는 1 이상, todos/comments 는 0 이상이어야 합니다.");
+        }
+        if (comments > 0 && todos == 0) {
+            throw new IllegalArgumentException("댓글을 만들려면 dataset.todos 가 1 이상이어야 합니다.");
+        }
+        if (maxExtraManagers < 0 || maxExtraManagers >= users) {
+            throw new IllegalArgumentException("dataset.maxExtraManagers 는 0 이상, users 미만이어야 합니다.");
+        }
+        // MySQL placeholder 제한(65535) 안에서 가장 넓은 테이블(7 컬럼)이 들어가도록 제한합니다.
+        if (batchSize < 1 || batchSize * 7 > 65_535) {
+            throw new IllegalArgumentException("dataset.batchSize 는 1 ~ 9362 사이여야 합니다.");
+        }
+        if (writers < 1) {
+            throw new IllegalArgumentException("dataset.writers 는 1 이상이어야 합니다.");
+        }
+    }
+
+    static DatasetConfig fromSystemProperties() {
+        return new DatasetConfig(System.getProperties());
+    }
+
+    String describe() {
+        return String.format("users=%d, todos=%d, comments=%d, maxExtraManagers=%d, zipf(owner=%.2f, manager=%.2f, comment=%.2f), adminRatio=%.3f, seed=%d, batchSize=%d, writers=%d, spring=%s",
+                users, todos, comments, maxExtraManagers, ownerSkew, managerSkew, commentSkew, adminRatio,
+                seed, batchSize, writers, springProperties);
+    }
+}
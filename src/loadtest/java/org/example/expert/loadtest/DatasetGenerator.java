@@ -0,0 +1,329 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.PasswordEncoder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * users, todos, managers, comments 를 서비스 계층을 거치지 않고 multi-row INSERT 로 바로 채우는 데이터 생성기.
+ * 스키마는 애플리케이션 컨텍스트(web 없이)를 띄워 Hibernate 가 만들고, id 는 기존 max(id) 다음부터 직접 지정합니다.
+ *
+ * <ul>
+ *     <li>일정 작성자, 추가 담당자, 댓글이 달릴 일정은 각각 Zipf 분포로 뽑아 소수의 유저/일정에 몰리게 합니다.</li>
+ *     <li>일정 작성자는 항상 담당자로 등록되고, 댓글 작성자는 그 일정의 담당자 중에서 고릅니다. (서비스의 검증 규칙과 동일)</li>
+ *     <li>모든 유저의 비밀번호는 dataset.password 이고, 같은 seed 로 실행하면 같은 데이터가 만들어집니다.</li>
+ * </ul>
+ */
+public final class DatasetGenerator {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy", "Foggy"};
+    private static final String[] WORDS = {
+            "회의", "보고서", "리뷰", "배포", "정리", "준비", "점검", "계획", "공유", "마감",
+            "meeting", "report", "review", "deploy", "cleanup", "release", "check", "plan", "sync", "deadline"
+    };
+    private static final long USER_AGE_SECONDS = TimeUnit.DAYS.toSeconds(365);
+    private static final long TODO_AGE_SECONDS = TimeUnit.DAYS.toSeconds(180);
+
+    private DatasetGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetConfig config = DatasetConfig.fromSystemProperties();
+        System.out.println("dataset: " + config.describe());
+
+        try (ConfigurableApplicationContext context = startContext(config)) {
+            DataSource dataSource = context.getBean(DataSource.class);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            String passwordHash = context.getBean(PasswordEncoder.class).encode(config.password);
+            new Generation(config, jdbcTemplate, passwordHash).run();
+            restartIdentities(dataSource, jdbcTemplate);
+        }
+    }
+
+    private static ConfigurableApplicationContext startContext(DatasetConfig config) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, Object> properties = new HashMap<>();
+        Path defaultDatabase = Path.of(System.getProperty("dataset.dir", "build/dataset")).toAbsolutePath().resolve("expert");
+        properties.put("spring.datasource.url", "jdbc:h2:file:" + defaultDatabase);
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        properties.put("jwt.secret.key", Base64.getEncoder().encodeToString(secret));
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.putAll(config.springProperties);
+
+        return new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+    }
+
+    // H2 는 id 를 직접 넣으면 identity 가 따라오지 않으므로, 애플리케이션이 이어서 insert 할 수 있게 다시 맞춥니다.
+    private static void restartIdentities(DataSource dataSource, JdbcTemplate jdbcTemplate) throws SQLException {
+        String product;
+        try (Connection connection = dataSource.getConnection()) {
+            product = connection.getMetaData().getDatabaseProductName();
+        }
+        if (!"H2".equalsIgnoreCase(product)) {
+            return; // MySQL 의 AUTO_INCREMENT 는 명시한 id 이후로 자동으로 이동합니다.
+        }
+        for (String table : new String[]{"users", "todos", "managers", "comments"}) {
+            long next = maxId(jdbcTemplate, table) + 1;
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    private static long maxId(JdbcTemplate jdbcTemplate, String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * 한 번의 생성 작업. 댓글 작성자를 고르기 위해 일정별 담당자를 메모리에 (유저 인덱스로) 들고 있습니다.
+     */
+    private static final class Generation {
+
+        private final DatasetConfig config;
+        private final JdbcTemplate jdbcTemplate;
+        private final String passwordHash;
+        private final SplittableRandom random;
+        private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        private final long firstUserId;
+        private final long firstTodoId;
+        private final long firstManagerId;
+        private final long firstCommentId;
+
+        // 일정 생성 시각 (now 기준 몇 초 전인지)
+        private final int[] todoAgeSeconds;
+        // todo i 의 담당자 = managerUsers[managerOffsets[i] .. managerOffsets[i + 1])
+        private final int[] managerOffsets;
+        private int[] managerUsers;
+        private int managerCount;
+
+        private final int[] todosPerUser;
+        private final int[] managedTodosPerUser;
+        private final int[] commentsPerTodo;
+
+        Generation(DatasetConfig config, JdbcTemplate jdbcTemplate, String passwordHash) {
+            this.config = config;
+            this.jdbcTemplate = jdbcTemplate;
+            this.passwordHash = passwordHash;
+            this.random = new SplittableRandom(config.seed);
+            this.firstUserId = maxId(jdbcTemplate, "users") + 1;
+            this.firstTodoId = maxId(jdbcTemplate, "todos") + 1;
+            this.firstManagerId = maxId(jdbcTemplate, "managers") + 1;
+            this.firstCommentId = maxId(jdbcTemplate, "comments") + 1;
+            this.todoAgeSeconds = new int[config.todos];
+            this.managerOffsets = new int[config.todos + 1];
+            this.managerUsers = new int[Math.max(16, config.todos * 2)];
+            this.todosPerUser = new int[config.users];
+            this.managedTodosPerUser = new int[config.users];
+            this.commentsPerTodo = new int[config.todos];
+        }
+
+        void run() throws InterruptedException {
+            long start = System.nanoTime();
+            long users = timed("users", this::writeUsers);
+            long todos = timed("todos", this::writeTodos);
+            long managers = timed("managers", this::writeManagers);
+            long comments = timed("comments", this::writeComments);
+            System.out.printf("done: %d users, %d todos, %d managers, %d comments in %.1f s%n",
+                    users, todos, managers, comments, (System.nanoTime() - start) / 1e9);
+            System.out.printf("skew: top 1%% users own %.1f%% of todos, top 1%% users manage %.1f%% of manager rows, top 1%% todos hold %.1f%% of comments%n",
+                    topShare(todosPerUser), topShare(managedTodosPerUser), topShare(commentsPerTodo));
+        }
+
+        private long writeUsers() throws InterruptedException {
+            MultiRowInserter inserter = inserter("users",
+                    "id", "email", "password", "user_role", "created_at", "modified_at");
+            for (int i = 0; i < config.users; i++) {
+                long id = firstUserId + i;
+                Timestamp createdAt = ago(random.nextLong(USER_AGE_SECONDS));
+                String role = random.nextDouble() < config.adminRatio ? "ADMIN" : "USER";
+                inserter.add(id, "user" + id + "@dataset.example.com", passwordHash, role, createdAt, createdAt);
+            }
+            inserter.close();
+            return inserter.written();
+        }
+
+        private long writeTodos() throws InterruptedException {
+            ZipfSampler ownerSampler = new ZipfSampler(config.users, config.ownerSkew);
+            ZipfSampler managerSampler = new ZipfSampler(config.users, config.managerSkew);
+            Permutation ownerOrder = new Permutation(config.users, 0);
+            Permutation managerOrder = new Permutation(config.users, 1);
+
+            MultiRowInserter inserter = inserter("todos",
+                    "id", "user_id", "title", "contents", "weather", "created_at", "modified_at");
+            for (int i = 0; i < config.todos; i++) {
+                int owner = ownerOrder.apply(ownerSampler.sample(random) - 1);
+                int age = (int) random.nextLong(TODO_AGE_SECONDS);
+                todoAgeSeconds[i] = age;
+                todosPerUser[owner]++;
+
+                // 작성자는 항상 첫 번째 담당자입니다. (Todo 생성자와 동일)
+                managerOffsets[i] = managerCount;
+                addManager(owner);
+                int extra = random.nextInt(config.maxExtraManagers + 1);
+                for (int attempt = 0; extra > 0 && attempt < extra * 8; attempt++) {
+                    int candidate = managerOrder.apply(managerSampler.sample(random) - 1);
+                    if (!isManager(i, candidate)) {
+                        addManager(candidate);
+                        extra--;
+                    }
+                }
+
+                long id = firstTodoId + i;
+                inserter.add(id, firstUserId + owner, sentence(3) + " #" + id, sentence(12),
+                        WEATHERS[random.nextInt(WEATHERS.length)], ago(age), ago(random.nextInt(age + 1)));
+            }
+            managerOffsets[config.todos] = managerCount;
+            inserter.close();
+            return inserter.written();
+        }
+
+        private long writeManagers() throws InterruptedException {
+            MultiRowInserter inserter = inserter("managers", "id", "user_id", "todo_id");
+            for (int i = 0; i < config.todos; i++) {
+                for (int m = managerOffsets[i]; m < managerOffsets[i + 1]; m++) {
+                    inserter.add(firstManagerId + m, firstUserId + managerUsers[m], firstTodoId + i);
+                }
+            }
+            inserter.close();
+            return inserter.written();
+        }
+
+        private long writeComments() throws InterruptedException {
+            if (config.comments == 0) {
+                return 0;
+            }
+            ZipfSampler todoSampler = new ZipfSampler(config.todos, config.commentSkew);
+            Permutation todoOrder = new Permutation(config.todos, 2);
+
+            MultiRowInserter inserter = inserter("comments",
+                    "id", "contents", "user_id", "todo_id", "created_at", "modified_at");
+            for (long c = 0; c < config.comments; c++) {
+                int todo = todoOrder.apply(todoSampler.sample(random) - 1);
+                int from = managerOffsets[todo];
+                int author = managerUsers[from + random.nextInt(managerOffsets[todo + 1] - from)];
+                Timestamp createdAt = ago(random.nextInt(todoAgeSeconds[todo] + 1));
+                commentsPerTodo[todo]++;
+                inserter.add(firstCommentId + c, sentence(8), firstUserId + author, firstTodoId + todo, createdAt, createdAt);
+            }
+            inserter.close();
+            return inserter.written();
+        }
+
+        private MultiRowInserter inserter(String table, String... columns) {
+            return new MultiRowInserter(jdbcTemplate, table, columns, config.batchSize, config.writers);
+        }
+
+        private void addManager(int user) {
+            if (managerCount == managerUsers.length) {
+                managerUsers = Arrays.copyOf(managerUsers, managerUsers.length * 2);
+            }
+            managerUsers[managerCount++] = user;
+            managedTodosPerUser[user]++;
+        }
+
+        private boolean isManager(int todo, int user) {
+            for (int m = managerOffsets[todo]; m < managerCount; m++) {
+                if (managerUsers[m] == user) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private String sentence(int words) {
+            StringBuilder sb = new StringBuilder(words * 8);
+            for (int i = 0; i < words; i++) {
+                if (i > 0) {
+                    sb.append(' ');
+                }
+                sb.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            return sb.toString();
+        }
+
+        private Timestamp ago(long seconds) {
+            return Timestamp.valueOf(now.minusSeconds(seconds));
+        }
+
+        private long timed(String table, Step step) throws InterruptedException {
+            long start = System.nanoTime();
+            long rows = step.run();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%-9s %,12d rows %8.1f s %,12.0f rows/s%n", table, rows, seconds, rows / Math.max(seconds, 1e-9));
+            return rows;
+        }
+
+        // 가장 많이 가진 상위 1% 가 전체에서 차지하는 비율
+        private static double topShare(int[] counts) {
+            if (counts.length == 0) {
+                return 0;
+            }
+            int[] sorted = counts.clone();
+            Arrays.sort(sorted);
+            long total = 0;
+            for (int count : sorted) {
+                total += count;
+            }
+            int top = Math.max(1, sorted.length / 100);
+            long topTotal = 0;
+            for (int i = sorted.length - top; i < sorted.length; i++) {
+                topTotal += sorted[i];
+            }
+            return total == 0 ? 0 : topTotal * 100.0 / total;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        long run() throws InterruptedException;
+    }
+
+    /**
+     * Zipf 순위를 실제 인덱스로 흩뿌리는 전단사 함수 (rank * step mod n).
+     * 순위 1 이 항상 id 가 가장 작은 유저/일정이 되지 않도록, 용도마다 다른 step 을 씁니다.
+     */
+    private static final class Permutation {
+
+        private final long size;
+        private final long step;
+
+        Permutation(int size, int salt) {
+            this.size = size;
+            // size 보다 큰 소수는 size 와 서로소이므로 mod size 에서 전단사가 됩니다.
+            BigInteger prime = BigInteger.valueOf(size);
+            for (int i = 0; i <= salt; i++) {
+                prime = prime.nextProbablePrime();
+            }
+            this.step = prime.longValueExact();
+        }
+
+        int apply(int rank) {
+            return (int) ((rank * step + step / 2) % size);
+        }
+    }
+}
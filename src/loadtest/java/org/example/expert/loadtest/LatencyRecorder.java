@@ -0,0 +1,82 @@
+package org.example.expert.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * operation 별 지연 시간 히스토그램 (마이크로초 단위).
+ * corrected 는 coordinated omission 을 보정한 값이고, raw 는 요청 하나의 순수 처리 시간입니다.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<Operation, Entry> entries = new EnumMap<>(Operation.class);
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            entries.put(operation, new Entry());
+        }
+    }
+
+    /**
+     * open loop 용. 의도한 발사 시각부터 잰 지연과 실제 처리 시간을 함께 기록합니다.
+     */
+    void recordFromIntendedStart(Operation operation, long intendedStartNanos, long actualStartNanos, long endNanos, boolean success) {
+        Entry entry = entries.get(operation);
+        entry.corrected.recordValue(toMicros(endNanos - intendedStartNanos));
+        entry.raw.recordValue(toMicros(endNanos - actualStartNanos));
+        entry.count(success);
+    }
+
+    /**
+     * closed loop 용. 응답이 expectedInterval 보다 늦으면 그동안 보내지 못한 요청의 지연을 채워 넣습니다.
+     */
+    void recordWithExpectedInterval(Operation operation, long latencyNanos, long expectedIntervalMicros, boolean success) {
+        Entry entry = entries.get(operation);
+        long micros = toMicros(latencyNanos);
+        entry.corrected.recordValueWithExpectedInterval(micros, expectedIntervalMicros);
+        entry.raw.recordValue(micros);
+        entry.count(success);
+    }
+
+    Histogram corrected(Operation operation) {
+        return entries.get(operation).corrected;
+    }
+
+    Histogram raw(Operation operation) {
+        return entries.get(operation).raw;
+    }
+
+    long requests(Operation operation) {
+        return entries.get(operation).requests.sum();
+    }
+
+    long errors(Operation operation) {
+        return entries.get(operation).errors.sum();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, nanos / 1_000));
+    }
+
+    private static final class Entry {
+
+        private final Histogram corrected = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram raw = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void count(boolean success) {
+            requests.increment();
+            if (!success) {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 애플리케이션에 실제 HTTP 요청을 보내는 클라이언트.
+ * seed() 로 유저/일정/담당자를 만들어 두고, execute() 는 그 데이터 중에서 무작위로 골라 요청합니다.
+ */
+final class LoadTestClient {
+
+    private static final String PASSWORD = "LoadTest1234";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<SeedUser> users = new ArrayList<>();
+    private final List<SeedTodo> todos = new ArrayList<>();
+
+    LoadTestClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 유저를 가입시키고, 유저마다 일정을 만든 뒤 다음 유저를 담당자로 등록합니다.
+     * 댓글은 일정 작성자나 담당자만 달 수 있으므로 comment_create 는 이 관계를 이용합니다.
+     */
+    void seed(int userCount, int todosPerUser) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(16, userCount));
+        try {
+            List<Future<SeedUser>> signups = new ArrayList<>();
+            for (int i = 0; i < userCount; i++) {
+                String email = "loadtest-" + i + "@example.com";
+                signups.add(executor.submit(() -> signup(email)));
+            }
+            for (Future<SeedUser> signup : signups) {
+                users.add(signup.get());
+            }
+
+            List<Future<List<SeedTodo>>> creates = new ArrayList<>();
+            for (int i = 0; i < userCount; i++) {
+                int ownerIndex = i;
+                creates.add(executor.submit(() -> createTodos(ownerIndex, todosPerUser)));
+            }
+            for (Future<List<SeedTodo>> create : creates) {
+                todos.addAll(create.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    int userCount() {
+        return users.size();
+    }
+
+    int todoCount() {
+        return todos.size();
+    }
+
+    /**
+     * operation 을 한 번 수행하고 HTTP 상태 코드를 반환합니다. 연결 실패는 -1 입니다.
+     */
+    int execute(Operation operation, SplittableRandom random) {
+        SeedUser user = users.get(random.nextInt(users.size()));
+        SeedTodo todo = todos.get(random.nextInt(todos.size()));
+        try {
+            return switch (operation) {
+                case SIGNIN -> post("/auth/signin", null, Map.of("email", user.email, "password", PASSWORD)).statusCode();
+                case TODO_CREATE -> post("/todos", user.token,
+                        Map.of("title", "load " + random.nextInt(), "contents", "load test contents")).statusCode();
+                case TODO_LIST -> get("/todos?page=" + (1 + random.nextInt(5)) + "&size=10", user.token).statusCode();
+                case TODO_GET -> get("/todos/" + todo.id, user.token).statusCode();
+                case COMMENT_CREATE -> {
+                    // 작성자 또는 담당자로 등록된 다음 유저
+                    SeedUser writer = users.get((todo.ownerIndex + random.nextInt(2)) % users.size());
+                    yield post("/todos/" + todo.id + "/comments", writer.token,
+                            Map.of("contents", "load comment " + random.nextInt())).statusCode();
+                }
+                case COMMENT_LIST -> get("/todos/" + todo.id + "/comments", user.token).statusCode();
+                case MANAGER_LIST -> get("/todos/" + todo.id + "/managers", user.token).statusCode();
+            };
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private SeedUser signup(String email) throws IOException, InterruptedException {
+        HttpResponse<String> response = post("/auth/signup", null,
+                Map.of("email", email, "password", PASSWORD, "userRole", "USER"));
+        String token = expectOk(response, "signup").get("bearerToken").asText();
+        return new SeedUser(email, token, userIdOf(token));
+    }
+
+    private List<SeedTodo> createTodos(int ownerIndex, int count) throws IOException, InterruptedException {
+        SeedUser owner = users.get(ownerIndex);
+        SeedUser manager = users.get((ownerIndex + 1) % users.size());
+        List<SeedTodo> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HttpResponse<String> response = post("/todos", owner.token,
+                    Map.of("title", "seed " + ownerIndex + "-" + i, "contents", "seeded by load test"));
+            long todoId = expectOk(response, "todo create").get("id").asLong();
+            expectOk(post("/todos/" + todoId + "/managers/bulk", owner.token,
+                    Map.of("managerUserIds", List.of(manager.userId))), "manager bulk save");
+            created.add(new SeedTodo(todoId, ownerIndex));
+        }
+        return created;
+    }
+
+    private HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode expectOk(HttpResponse<String> response, String step) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(step + " 실패: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    // 토큰의 subject 가 userId 입니다.
+    private long userIdOf(String bearerToken) throws IOException {
+        String payload = bearerToken.substring("Bearer ".length()).split("\\.")[1];
+        return objectMapper.readTree(Base64.getUrlDecoder().decode(payload)).get("sub").asLong();
+    }
+
+    private record SeedUser(String email, String token, long userId) {
+    }
+
+    private record SeedTodo(long id, int ownerIndex) {
+    }
+}
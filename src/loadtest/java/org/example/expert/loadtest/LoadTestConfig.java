@@ -0,0 +1,104 @@
+package org.example.expert.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * loadtest.* 시스템 프로퍼티로 받는 부하 테스트 설정.
+ * gradle 에서는 -Ploadtest.xxx=... 로 넘기면 됩니다.
+ */
+final class LoadTestConfig {
+
+    private static final String SPRING_PREFIX = "loadtest.spring.";
+    private static final String DEFAULT_MIX =
+            "signin:5,todo_create:10,todo_list:25,todo_get:25,comment_create:10,comment_list:15,manager_list:10";
+
+    enum Mode {
+        // 고정 동시성 (closed loop)
+        CONCURRENCY,
+        // 고정 도착률 (open loop)
+        RATE
+    }
+
+    final Mode mode;
+    final int concurrency;
+    final double rate;
+    final int maxInFlight;
+    final long warmupSeconds;
+    final long durationSeconds;
+    final int users;
+    final int todosPerUser;
+    final long seed;
+    final long weatherLatencyMillis;
+    final Map<Operation, Integer> mix;
+    final Path reportDir;
+    final Path baseline;
+    // loadtest.spring.xxx=yyy 는 애플리케이션 프로퍼티 xxx=yyy 로 전달됩니다.
+    final Map<String, String> springProperties;
+
+    private LoadTestConfig(Properties props) {
+        this.mode = Mode.valueOf(props.getProperty("loadtest.mode", "concurrency").toUpperCase());
+        this.concurrency = Integer.parseInt(props.getProperty("loadtest.concurrency", "32"));
+        this.rate = Double.parseDouble(props.getProperty("loadtest.rate", "200"));
+        this.maxInFlight = Integer.parseInt(props.getProperty("loadtest.maxInFlight", "512"));
+        this.warmupSeconds = Long.parseLong(props.getProperty("loadtest.warmup", "10"));
+        this.durationSeconds = Long.parseLong(props.getProperty("loadtest.duration", "30"));
+        this.users = Integer.parseInt(props.getProperty("loadtest.users", "50"));
+        this.todosPerUser = Integer.parseInt(props.getProperty("loadtest.todosPerUser", "5"));
+        this.seed = Long.parseLong(props.getProperty("loadtest.seed", "42"));
+        this.weatherLatencyMillis = Long.parseLong(props.getProperty("loadtest.weatherLatencyMs", "0"));
+        this.mix = parseMix(props.getProperty("loadtest.mix", DEFAULT_MIX));
+        this.reportDir = Path.of(props.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        String baselinePath = props.getProperty("loadtest.baseline");
+        this.baseline = baselinePath == null || baselinePath.isBlank() ? null : Path.of(baselinePath);
+
+        Map<String, String> spring = new LinkedHashMap<>();
+        for (String name : props.stringPropertyNames()) {
+            if (name.startsWith(SPRING_PREFIX)) {
+                spring.put(name.substring(SPRING_PREFIX.length()), props.getProperty(name));
+            }
+        }
+        this.springProperties = spring;
+
+        if (users < 2) {
+            throw new IllegalArgumentException("loadtest.users 는 2 이상이어야 합니다.");
+        }
+        if (todosPerUser < 1) {
+            throw new IllegalArgumentException("loadtest.todosPerUser 는 1 이상이어야 합니다.");
+        }
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(System.getProperties());
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 올바르지 않습니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.of(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 가중치가 0 보다 큰 operation 이 없습니다.");
+        }
+        return mix;
+    }
+
+    String describe() {
+        String load = mode == Mode.RATE
+                ? String.format("rate=%.1f req/s, maxInFlight=%d", rate, maxInFlight)
+                : "concurrency=" + concurrency;
+        return String.format("mode=%s, %s, warmup=%ds, duration=%ds, users=%d, todosPerUser=%d, seed=%d, weatherLatency=%dms, mix=%s, spring=%s",
+                mode.name().toLowerCase(), load, warmupSeconds, durationSeconds, users, todosPerUser, seed,
+                weatherLatencyMillis, mix, springProperties);
+    }
+}
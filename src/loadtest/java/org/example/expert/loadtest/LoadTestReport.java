@@ -0,0 +1,132 @@
+package org.example.expert.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * endpoint 별 p50/p99/p999 와 처리량 리포트.
+ * report.txt 는 사람이 보는 표, results.csv 는 다음 실행에서 -Ploadtest.baseline 으로 비교할 때 씁니다.
+ */
+final class LoadTestReport {
+
+    private static final String ALL = "ALL";
+    private static final String CSV_HEADER = "operation,endpoint,requests,errors,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms,raw_p99_ms";
+
+    private final List<Row> rows = new ArrayList<>();
+    private final String description;
+
+    LoadTestReport(LoadTestConfig config, LatencyRecorder recorder, double elapsedSeconds) {
+        this.description = config.describe();
+        Histogram allCorrected = new Histogram(3);
+        Histogram allRaw = new Histogram(3);
+        long allRequests = 0;
+        long allErrors = 0;
+        for (Operation operation : config.mix.keySet()) {
+            Histogram corrected = recorder.corrected(operation);
+            Histogram raw = recorder.raw(operation);
+            long requests = recorder.requests(operation);
+            long errors = recorder.errors(operation);
+            rows.add(Row.of(operation.key(), operation.endpoint(), requests, errors, elapsedSeconds, corrected, raw));
+            allCorrected.add(corrected);
+            allRaw.add(raw);
+            allRequests += requests;
+            allErrors += errors;
+        }
+        rows.add(Row.of(ALL, "-", allRequests, allErrors, elapsedSeconds, allCorrected, allRaw));
+    }
+
+    void print(PrintStream out, Path baseline) throws IOException {
+        out.println(render(baseline == null ? Map.of() : readBaseline(baseline)));
+    }
+
+    void write(Path reportDir, Path baseline) throws IOException {
+        Files.createDirectories(reportDir);
+        Map<String, Row> baselineRows = baseline == null ? Map.of() : readBaseline(baseline);
+        Files.writeString(reportDir.resolve("report.txt"), render(baselineRows), StandardCharsets.UTF_8);
+
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (Row row : rows) {
+            csv.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                    row.operation, row.endpoint, row.requests, row.errors, row.throughput,
+                    row.p50, row.p99, row.p999, row.max, row.rawP99));
+        }
+        Files.writeString(reportDir.resolve("results.csv"), csv, StandardCharsets.UTF_8);
+    }
+
+    private String render(Map<String, Row> baseline) {
+        StringBuilder out = new StringBuilder();
+        out.append(description).append('\n');
+        out.append("latency: corrected for coordinated omission, ms\n\n");
+        out.append(String.format(Locale.ROOT, "%-15s %-30s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "endpoint", "requests", "errors", "req/s", "p50", "p99", "p999", "max", "raw p99"));
+        for (Row row : rows) {
+            out.append(String.format(Locale.ROOT, "%-15s %-30s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.operation, row.endpoint, row.requests, row.errors, row.throughput,
+                    row.p50, row.p99, row.p999, row.max, row.rawP99));
+        }
+
+        if (!baseline.isEmpty()) {
+            out.append("\ncompared to baseline (+ is slower for latency, faster for throughput)\n");
+            out.append(String.format(Locale.ROOT, "%-15s %10s %10s %10s %10s%n", "operation", "req/s", "p50", "p99", "p999"));
+            for (Row row : rows) {
+                Row base = baseline.get(row.operation);
+                if (base == null) {
+                    continue;
+                }
+                out.append(String.format(Locale.ROOT, "%-15s %10s %10s %10s %10s%n", row.operation,
+                        change(base.throughput, row.throughput), change(base.p50, row.p50),
+                        change(base.p99, row.p99), change(base.p999, row.p999)));
+            }
+        }
+        return out.toString();
+    }
+
+    private static String change(double before, double after) {
+        if (before == 0) {
+            return "n/a";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (after - before) / before * 100);
+    }
+
+    private static Map<String, Row> readBaseline(Path path) throws IOException {
+        Map<String, Row> baseline = new HashMap<>();
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            if (columns.length < 10) {
+                continue;
+            }
+            baseline.put(columns[0], new Row(columns[0], columns[1],
+                    Long.parseLong(columns[2]), Long.parseLong(columns[3]), Double.parseDouble(columns[4]),
+                    Double.parseDouble(columns[5]), Double.parseDouble(columns[6]), Double.parseDouble(columns[7]),
+                    Double.parseDouble(columns[8]), Double.parseDouble(columns[9])));
+        }
+        return baseline;
+    }
+
+    private record Row(String operation, String endpoint, long requests, long errors, double throughput,
+                       double p50, double p99, double p999, double max, double rawP99) {
+
+        static Row of(String operation, String endpoint, long requests, long errors, double elapsedSeconds,
+                      Histogram corrected, Histogram raw) {
+            return new Row(operation, endpoint, requests, errors, requests / elapsedSeconds,
+                    millis(corrected.getValueAtPercentile(50)), millis(corrected.getValueAtPercentile(99)),
+                    millis(corrected.getValueAtPercentile(99.9)), millis(corrected.getMaxValue()),
+                    millis(raw.getValueAtPercentile(99)));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
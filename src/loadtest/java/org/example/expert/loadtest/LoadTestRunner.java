@@ -0,0 +1,208 @@
+package org.example.expert.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 네트워크 없이 재현 가능한 end-to-end 부하 테스트.
+ * 로컬 날씨 스텁과 H2 위에서 ExpertApplication 을 띄우고, 유저를 seed 한 뒤 설정한 mix 로 트래픽을 보냅니다.
+ *
+ * <ul>
+ *     <li>concurrency 모드: worker 가 응답을 받자마자 다음 요청을 보냅니다. 워밍업 중의 p50 을 기대 간격으로 삼아
+ *     HdrHistogram 의 expected interval 보정으로 coordinated omission 을 보정합니다.</li>
+ *     <li>rate 모드: 고정된 도착률로 요청 시각을 미리 정하고, 지연은 실제 전송 시각이 아니라 의도한 시각부터 잽니다.</li>
+ * </ul>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("load test: " + config.describe());
+
+        try (WeatherStubServer weatherStub = WeatherStubServer.start(config.weatherLatencyMillis);
+             ConfigurableApplicationContext context = startApplication(config, weatherStub.baseUrl())) {
+
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+            LoadTestClient client = new LoadTestClient(baseUrl);
+
+            long seedStart = System.nanoTime();
+            client.seed(config.users, config.todosPerUser);
+            System.out.printf("seeded %d users, %d todos in %d ms%n",
+                    client.userCount(), client.todoCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+            OperationMix mix = new OperationMix(config.mix);
+
+            LatencyRecorder warmup = new LatencyRecorder();
+            run(config, client, mix, warmup, TimeUnit.SECONDS.toNanos(config.warmupSeconds), 0, config.seed);
+            long expectedIntervalMicros = expectedInterval(config, warmup);
+
+            LatencyRecorder measured = new LatencyRecorder();
+            long start = System.nanoTime();
+            run(config, client, mix, measured, TimeUnit.SECONDS.toNanos(config.durationSeconds),
+                    expectedIntervalMicros, config.seed + 1);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            LoadTestReport report = new LoadTestReport(config, measured, elapsedSeconds);
+            report.print(System.out, config.baseline);
+            report.write(config.reportDir, config.baseline);
+            System.out.println("report written to " + config.reportDir.toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config, String weatherBaseUrl) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("jwt.secret.key", Base64.getEncoder().encodeToString(secret));
+        properties.put("weather.api.base-url", weatherBaseUrl);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        // 부하 테스트는 애플리케이션 처리량을 재는 것이라 거절(503, 429)이 섞이지 않게 동시 처리 한도와 속도 제한을 끕니다. (-Dloadtest.spring.* 로 켤 수 있음)
+        properties.put("concurrency-limit.enabled", "false");
+        properties.put("rate-limit.enabled", "false");
+        properties.putAll(config.springProperties);
+
+        return new SpringApplicationBuilder(ExpertApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    private static void run(LoadTestConfig config, LoadTestClient client, OperationMix mix, LatencyRecorder recorder,
+                            long durationNanos, long expectedIntervalMicros, long seed) throws InterruptedException {
+        if (durationNanos <= 0) {
+            return;
+        }
+        if (config.mode == LoadTestConfig.Mode.RATE) {
+            runAtFixedRate(config, client, mix, recorder, durationNanos, seed);
+        } else {
+            runAtFixedConcurrency(config, client, mix, recorder, durationNanos, expectedIntervalMicros, seed);
+        }
+    }
+
+    private static void runAtFixedConcurrency(LoadTestConfig config, LoadTestClient client, OperationMix mix,
+                                              LatencyRecorder recorder, long durationNanos,
+                                              long expectedIntervalMicros, long seed) throws InterruptedException {
+        long deadline = System.nanoTime() + durationNanos;
+        List<Thread> workers = new ArrayList<>(config.concurrency);
+        for (int i = 0; i < config.concurrency; i++) {
+            SplittableRandom random = new SplittableRandom(seed * 31 + i);
+            Thread worker = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = mix.next(random);
+                    long start = System.nanoTime();
+                    int status = client.execute(operation, random);
+                    long latency = System.nanoTime() - start;
+                    if (expectedIntervalMicros > 0) {
+                        recorder.recordWithExpectedInterval(operation, latency, expectedIntervalMicros, isSuccess(status));
+                    } else {
+                        recorder.recordFromIntendedStart(operation, start, start, start + latency, isSuccess(status));
+                    }
+                }
+            }, "loadtest-worker-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private static void runAtFixedRate(LoadTestConfig config, LoadTestClient client, OperationMix mix,
+                                       LatencyRecorder recorder, long durationNanos, long seed) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(config.maxInFlight);
+        SplittableRandom scheduleRandom = new SplittableRandom(seed);
+        double intervalNanos = 1e9 / config.rate;
+        long start = System.nanoTime();
+        try {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + (long) (i * intervalNanos);
+                if (intendedStart - start >= durationNanos) {
+                    break;
+                }
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                // 요청 내용은 스케줄러 스레드에서 정해 seed 만으로 재현되게 합니다.
+                Operation operation = mix.next(scheduleRandom);
+                SplittableRandom requestRandom = scheduleRandom.split();
+                executor.execute(() -> {
+                    long actualStart = System.nanoTime();
+                    int status = client.execute(operation, requestRandom);
+                    recorder.recordFromIntendedStart(operation, intendedStart, actualStart, System.nanoTime(), isSuccess(status));
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    // closed loop 에서 한 worker 가 다음 요청을 보냈어야 할 간격. 워밍업 중 전체 p50 을 씁니다.
+    private static long expectedInterval(LoadTestConfig config, LatencyRecorder warmup) {
+        if (config.mode == LoadTestConfig.Mode.RATE) {
+            return 0;
+        }
+        Histogram all = new Histogram(3);
+        for (Operation operation : config.mix.keySet()) {
+            all.add(warmup.raw(operation));
+        }
+        return all.getTotalCount() == 0 ? 0 : Math.max(1, all.getValueAtPercentile(50));
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * 가중치에 따라 operation 을 고릅니다.
+     */
+    private static final class OperationMix {
+
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        OperationMix(Map<Operation, Integer> weights) {
+            this.operations = weights.keySet().toArray(new Operation[0]);
+            this.cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        Operation next(SplittableRandom random) {
+            int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.expert.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 테이블에 row 를 모아 batchSize 개씩 multi-row INSERT 로 씁니다.
+ * 모인 batch 는 writer 스레드들이 병렬로 실행하고, writer 가 밀리면 호출 스레드가 직접 실행해 메모리를 제한합니다.
+ */
+final class MultiRowInserter implements AutoCloseable {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String[] columns;
+    private final int columnCount;
+    private final int batchSize;
+    private final String fullBatchSql;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder written = new LongAdder();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    private Object[] buffer;
+    private int rows;
+
+    MultiRowInserter(JdbcTemplate jdbcTemplate, String table, String[] columns, int batchSize, int writers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.columns = columns;
+        this.columnCount = columns.length;
+        this.batchSize = batchSize;
+        this.fullBatchSql = insertSql(table, columns, batchSize);
+        this.buffer = new Object[batchSize * columnCount];
+        this.executor = new ThreadPoolExecutor(writers, writers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(writers * 2), runnable -> {
+                    Thread thread = new Thread(runnable, "dataset-writer-" + table);
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    void add(Object... values) {
+        RuntimeException error = failure.get();
+        if (error != null) {
+            throw error;
+        }
+        System.arraycopy(values, 0, buffer, rows * columnCount, columnCount);
+        if (++rows == batchSize) {
+            submit(fullBatchSql, buffer, rows);
+            buffer = new Object[batchSize * columnCount];
+            rows = 0;
+        }
+    }
+
+    long written() {
+        return written.sum();
+    }
+
+    /**
+     * 남은 row 를 쓰고 모든 writer 가 끝날 때까지 기다립니다.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        if (rows > 0) {
+            Object[] last = new Object[rows * columnCount];
+            System.arraycopy(buffer, 0, last, 0, last.length);
+            submit(insertSql(table, columns, rows), last, rows);
+            rows = 0;
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        RuntimeException error = failure.get();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void submit(String sql, Object[] values, int rowCount) {
+        executor.execute(() -> {
+            if (failure.get() != null) {
+                return;
+            }
+            try {
+                jdbcTemplate.update(sql, values);
+                written.add(rowCount);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+    }
+
+    private static String insertSql(String table, String[] columns, int rowCount) {
+        String row = "(" + "?, ".repeat(columns.length - 1) + "?)";
+        StringBuilder sql = new StringBuilder(64 + rowCount * (row.length() + 2))
+                .append("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+}
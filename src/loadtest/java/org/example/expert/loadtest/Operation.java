@@ -0,0 +1,45 @@
+package org.example.expert.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트가 호출하는 API 와 리포트에 쓰이는 endpoint 이름.
+ */
+enum Operation {
+
+    SIGNIN("signin", "POST /auth/signin"),
+    TODO_CREATE("todo_create", "POST /todos"),
+    TODO_LIST("todo_list", "GET /todos"),
+    TODO_GET("todo_get", "GET /todos/{todoId}"),
+    COMMENT_CREATE("comment_create", "POST /todos/{todoId}/comments"),
+    COMMENT_LIST("comment_list", "GET /todos/{todoId}/comments"),
+    MANAGER_LIST("manager_list", "GET /todos/{todoId}/managers");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation of(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 operation: " + key));
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.expert.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 추출한 boot jar 를 모드별(기본, AppCDS, faststart profile, 둘 다)로 새 JVM 에서 띄워 요청을 받을 수 있을 때까지의 시간을 비교합니다.
+ * 시간은 "Started ExpertApplication in ... (process running for ...)" 로그의 process 시간(JVM 시작부터)입니다.
+ * 모드마다 한 번은 파일 캐시를 데우는 용도로 띄우고 결과에서 뺍니다.
+ */
+public final class StartupTimeReport {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+    private static final long TIMEOUT_SECONDS = 180;
+
+    private StartupTimeReport() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        Path jar = Path.of(required("startup.jar"));
+        Path archive = Path.of(required("startup.archive"));
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+        Path reportDir = Path.of(System.getProperty("startup.reportDir", "build/reports/startup"));
+        Path workDir = Files.createDirectories(reportDir.resolve("work"));
+
+        List<Mode> modes = List.of(
+                new Mode("default", List.of(), List.of()),
+                new Mode("cds", List.of("-XX:SharedArchiveFile=" + archive), List.of()),
+                new Mode("faststart", List.of(), List.of("--spring.profiles.active=faststart")),
+                new Mode("faststart+cds", List.of("-XX:SharedArchiveFile=" + archive), List.of("--spring.profiles.active=faststart"))
+        );
+
+        List<Result> results = new ArrayList<>();
+        for (Mode mode : modes) {
+            start(java, jar, workDir, mode);
+            List<Double> seconds = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                seconds.add(start(java, jar, workDir, mode));
+            }
+            Result result = new Result(mode.name(), seconds);
+            System.out.printf(Locale.ROOT, "%-14s %s%n", mode.name(), seconds);
+            results.add(result);
+        }
+
+        String report = render(results, runs);
+        System.out.println(report);
+        Files.writeString(reportDir.resolve("report.txt"), report, StandardCharsets.UTF_8);
+
+        StringBuilder csv = new StringBuilder("mode,runs,median_s,min_s,max_s\n");
+        for (Result result : results) {
+            csv.append(String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f%n",
+                    result.mode(), result.seconds().size(), result.median(), result.min(), result.max()));
+        }
+        Files.writeString(reportDir.resolve("results.csv"), csv, StandardCharsets.UTF_8);
+    }
+
+    // 애플리케이션이 시작 완료 로그를 남기면 그 시각(JVM 시작부터, 초)을 돌려주고 종료시킵니다.
+    private static double start(String java, Path jar, Path workDir, Mode mode) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(mode.jvmArgs());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=0");
+        command.add("--audit.log.dir=" + workDir.resolve("audit"));
+        command.addAll(mode.appArgs());
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true);
+        builder.environment().put("JWT_SECRET_KEY", Base64.getEncoder().encodeToString(secret));
+        Process process = builder.start();
+        Deque<String> lastLines = new ArrayDeque<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    return Double.parseDouble(matcher.group(2));
+                }
+                if (lastLines.size() == 20) {
+                    lastLines.removeFirst();
+                }
+                lastLines.addLast(line);
+            }
+            throw new IllegalStateException("application exited before it started (" + mode.name() + "):\n" + String.join("\n", lastLines));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static String render(List<Result> results, int runs) {
+        double baseline = results.get(0).median();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "startup time until ready (JVM start -> Started log), %d runs per mode%n", runs));
+        out.append(String.format(Locale.ROOT, "%-14s %10s %8s %8s %10s%n", "mode", "median_s", "min_s", "max_s", "vs_default"));
+        for (Result result : results) {
+            out.append(String.format(Locale.ROOT, "%-14s %10.3f %8.3f %8.3f %+9.1f%%%n",
+                    result.mode(), result.median(), result.min(), result.max(), (result.median() / baseline - 1) * 100));
+        }
+        return out.toString();
+    }
+
+    private static String required(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return value;
+    }
+
+    private record Mode(String name, List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    private record Result(String mode, List<Double> seconds) {
+
+        double median() {
+            List<Double> sorted = seconds.stream().sorted().toList();
+            int middle = sorted.size() / 2;
+            return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+        }
+
+        double min() {
+            return seconds.stream().mapToDouble(Double::doubleValue).min().orElse(0);
+        }
+
+        double max() {
+            return seconds.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 날씨 API 대신 응답하는 로컬 HTTP 스텁.
+ * 1년치(윤년 기준 366일) 날씨를 미리 인코딩해 두고, 설정한 지연만큼 기다린 뒤 그대로 돌려줍니다.
+ */
+final class WeatherStubServer implements AutoCloseable {
+
+    private static final String PATH = "/f-api/weather.json";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private WeatherStubServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static WeatherStubServer start(long latencyMillis) throws IOException {
+        byte[] body = buildBody();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(PATH, exchange -> {
+            try (exchange) {
+                if (latencyMillis > 0) {
+                    TimeUnit.MILLISECONDS.sleep(latencyMillis);
+                }
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "weather-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        return new WeatherStubServer(server, executor);
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static byte[] buildBody() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        String[] weathers = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+        StringBuilder json = new StringBuilder("[");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 366; i++, date = date.plusDays(1)) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(date.format(formatter))
+                    .append("\",\"weather\":\"").append(weathers[i % weathers.length]).append("\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,13 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.config.jfr.WeatherFetchEvent;
+import org.example.expert.config.metrics.ServerTiming;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,17 +18,52 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Timer successTimer;
+    private final Timer failureTimer;
 
-    public WeatherClient(RestTemplateBuilder builder) {
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            MeterRegistry meterRegistry
+    ) {
         this.restTemplate = builder.build();
+        this.baseUrl = baseUrl;
+        this.successTimer = timer(meterRegistry, "SUCCESS");
+        this.failureTimer = timer(meterRegistry, "FAILURE");
     }
 
     public String getTodayWeather() {
+        WeatherFetchEvent event = new WeatherFetchEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        String weather = null;
+        try {
+            weather = fetchTodayWeather();
+            success = true;
+            return weather;
+        } finally {
+            event.end();
+            // 녹화 중이 아니거나 threshold 보다 짧으면 필드를 채우지 않고 버립니다.
+            if (event.shouldCommit()) {
+                event.success = success;
+                event.weather = weather;
+                event.commit();
+            }
+            long elapsed = System.nanoTime() - startNanos;
+            (success ? successTimer : failureTimer).record(elapsed, TimeUnit.NANOSECONDS);
+            ServerTiming.add(ServerTiming.Phase.WEATHER, elapsed);
+        }
+    }
+
+    private String fetchTodayWeather() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -33,7 +74,7 @@ public class WeatherClient {
 
         // 상태 코드가 OK일 경우만 여기로 오므로, else가 불필요
         if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+            throw new ServerException(ErrorCode.WEATHER_EMPTY);
         }
 
         String today = getCurrentDate();
@@ -44,18 +85,25 @@ public class WeatherClient {
             }
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        throw new ServerException(ErrorCode.WEATHER_TODAY_NOT_FOUND);
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("weather.client.requests")
+                .description("Weather API call time")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     private String getCurrentDate() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
         return LocalDate.now().format(formatter);
@@ -0,0 +1,19 @@
+package org.example.expert.config;
+
+/**
+ * 애플리케이션이 직접 띄우는 백그라운드 스레드(댓글 group commit, 감사 로그 writer).
+ * spring.threads.virtual.enabled=true 면 요청 처리와 같이 가상 스레드로 만듭니다.
+ */
+public final class BackgroundThreads {
+
+    private BackgroundThreads() {
+    }
+
+    public static Thread start(String name, boolean virtual, Runnable task) {
+        Thread thread = virtual
+                ? Thread.ofVirtual().name(name).unstarted(task)
+                : Thread.ofPlatform().name(name).daemon(true).unstarted(task);
+        thread.start();
+        return thread;
+    }
+}
@@ -1,22 +1,104 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.idempotency.IdempotencyFilter;
+import org.example.expert.config.idempotency.IdempotencyStore;
+import org.example.expert.config.limit.AdaptiveConcurrencyLimit;
+import org.example.expert.config.limit.ConcurrencyLimitFilter;
+import org.example.expert.config.limit.RateLimitRule;
+import org.example.expert.config.limit.RouteClass;
+import org.example.expert.config.limit.TrafficClass;
+import org.example.expert.config.limit.UserRateLimiter;
+import org.example.expert.domain.user.service.UserRoleChangeChecker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final UserRoleChangeChecker userRoleChangeChecker;
 
     @Bean
-    public FilterRegistrationBean<JwtFilter> jwtFilter() {
+    public FilterRegistrationBean<JwtFilter> jwtFilter(UserRateLimiter userRateLimiter) {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, userRoleChangeChecker, userRateLimiter));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
+        registrationBean.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+
+        return registrationBean;
+    }
 
+    // JwtFilter 가 넣어 둔 userId 를 쓰므로 JwtFilter 다음에 둡니다.
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis
+    ) {
+        FilterRegistrationBean<IdempotencyFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new IdempotencyFilter(idempotencyStore, waitTimeoutMillis, meterRegistry));
+        registrationBean.addUrlPatterns("/todos/*", "/todos");
+        registrationBean.setOrder(Ordered.LOWEST_PRECEDENCE);
         return registrationBean;
     }
+
+    // JwtFilter 에서 userId 를 확인한 뒤 사용자별로 적용합니다.
+    @Bean
+    public UserRateLimiter userRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:false}") boolean enabled,
+            @Value("${rate-limit.table-size:65536}") int tableSize,
+            @Value("${rate-limit.idle-seconds:60}") long idleSeconds,
+            @Value("${rate-limit.read.permits-per-second:50}") double readPermitsPerSecond,
+            @Value("${rate-limit.read.burst:100}") int readBurst,
+            @Value("${rate-limit.write.permits-per-second:10}") double writePermitsPerSecond,
+            @Value("${rate-limit.write.burst:20}") int writeBurst,
+            @Value("${rate-limit.admin.permits-per-second:5}") double adminPermitsPerSecond,
+            @Value("${rate-limit.admin.burst:10}") int adminBurst
+    ) {
+        Map<RouteClass, RateLimitRule> rules = new EnumMap<>(RouteClass.class);
+        rules.put(RouteClass.READ, new RateLimitRule(readPermitsPerSecond, readBurst));
+        rules.put(RouteClass.WRITE, new RateLimitRule(writePermitsPerSecond, writeBurst));
+        rules.put(RouteClass.ADMIN, new RateLimitRule(adminPermitsPerSecond, adminBurst));
+        return new UserRateLimiter(meterRegistry, enabled, tableSize, rules, TimeUnit.SECONDS.toNanos(idleSeconds), System::nanoTime);
+    }
+
+    // 요청 지표 필터(RequestMetricsFilter 등) 안쪽, JwtFilter 바깥에 둡니다. 거절한 요청도 지표에는 남습니다.
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.enabled:false}") boolean enabled,
+            @Value("${concurrency-limit.default.max-limit:200}") int defaultMaxLimit,
+            @Value("${concurrency-limit.auth.max-limit:16}") int authMaxLimit,
+            @Value("${concurrency-limit.admin.max-limit:8}") int adminMaxLimit,
+            @Value("${concurrency-limit.window-ms:100}") long windowMs,
+            @Value("${concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        Map<TrafficClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(TrafficClass.class);
+        limits.put(TrafficClass.DEFAULT, concurrencyLimit(TrafficClass.DEFAULT, defaultMaxLimit, windowMs));
+        limits.put(TrafficClass.AUTH, concurrencyLimit(TrafficClass.AUTH, authMaxLimit, windowMs));
+        limits.put(TrafficClass.ADMIN, concurrencyLimit(TrafficClass.ADMIN, adminMaxLimit, windowMs));
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ConcurrencyLimitFilter(meterRegistry, limits, retryAfterSeconds, enabled));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 25);
+        return registrationBean;
+    }
+
+    // 처음부터 max-limit 으로 열어 두고, 응답 시간이 늘어날 때만 줄입니다. (시작 직후 몰리는 요청을 거절하지 않도록)
+    private AdaptiveConcurrencyLimit concurrencyLimit(TrafficClass trafficClass, int maxLimit, long windowMs) {
+        int limit = Math.max(trafficClass.getMinLimit(), maxLimit);
+        return new AdaptiveConcurrencyLimit(limit, trafficClass.getMinLimit(), limit, TimeUnit.MILLISECONDS.toNanos(windowMs), 10, System::nanoTime);
+    }
 }
@@ -1,44 +1,110 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.BaseException;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // 동시 처리 한도(ConcurrencyLimitFilter)의 기본값과 같게 둡니다.
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    // 고정 메시지 오류의 응답 본문은 미리 JSON 으로 만들어 두고 그대로 내려보냅니다.
+    private final Map<ErrorCode, byte[]> encodedErrorResponses;
+    // 켜면 처리한 도메인 예외를 로그로 남깁니다. (stack trace 는 -Dexception.stack-trace.enabled=true 일 때만 채워짐)
+    private final boolean stackTraceEnabled;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper, @Value("${exception.stack-trace.enabled:false}") boolean stackTraceEnabled) {
+        this.encodedErrorResponses = encodeErrorResponses(objectMapper);
+        this.stackTraceEnabled = stackTraceEnabled;
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
-    public ResponseEntity<Map<String, Object>> invalidRequestExceptionException(InvalidRequestException ex) {
+    public ResponseEntity<?> invalidRequestExceptionException(InvalidRequestException ex) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
-        return getErrorResponse(status, ex.getMessage());
+        return getErrorResponse(status, ex);
     }
 
     @ExceptionHandler(AuthException.class)
-    public ResponseEntity<Map<String, Object>> handleAuthException(AuthException ex) {
+    public ResponseEntity<?> handleAuthException(AuthException ex) {
         HttpStatus status = HttpStatus.UNAUTHORIZED;
-        return getErrorResponse(status, ex.getMessage());
+        return getErrorResponse(status, ex);
     }
 
     @ExceptionHandler(ServerException.class)
-    public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
+    public ResponseEntity<?> handleServerException(ServerException ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
-        return getErrorResponse(status, ex.getMessage());
+        return getErrorResponse(status, ex);
+    }
+
+    // 부하로 거절/취소한 요청이라 저장된 것이 없으므로 Retry-After 를 붙여 다시 시도하게 합니다.
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<?> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return getErrorResponse(status, ex, headers);
+    }
+
+    private ResponseEntity<?> getErrorResponse(HttpStatus status, BaseException ex) {
+        return getErrorResponse(status, ex, HttpHeaders.EMPTY);
+    }
+
+    private ResponseEntity<?> getErrorResponse(HttpStatus status, BaseException ex, HttpHeaders headers) {
+        if (stackTraceEnabled) {
+            log.warn("{} handled as {}", ex.getClass().getSimpleName(), status.value(), ex);
+        }
+        ErrorCode errorCode = ex.getErrorCode();
+        // 미리 만든 본문은 ErrorCode 의 status 로 만들었으므로, 예외 타입의 status 와 다르면 매번 만듭니다.
+        if (errorCode == null || errorCode.getStatus() != status) {
+            return new ResponseEntity<>(errorBody(status, ex.getMessage()), headers, status);
+        }
+        return ResponseEntity.status(status)
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(encodedErrorResponses.get(errorCode));
     }
 
     public ResponseEntity<Map<String, Object>> getErrorResponse(HttpStatus status, String message) {
-        Map<String, Object> errorResponse = new HashMap<>();
+        return new ResponseEntity<>(errorBody(status, message), status);
+    }
+
+    private static Map<ErrorCode, byte[]> encodeErrorResponses(ObjectMapper objectMapper) {
+        Map<ErrorCode, byte[]> encoded = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            try {
+                encoded.put(errorCode, objectMapper.writeValueAsBytes(errorBody(errorCode.getStatus(), errorCode.getMessage())));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return encoded;
+    }
+
+    private static Map<String, Object> errorBody(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
         errorResponse.put("status", status.name());
         errorResponse.put("code", status.value());
         errorResponse.put("message", message);
-
-        return new ResponseEntity<>(errorResponse, status);
+        return errorResponse;
     }
 }
-
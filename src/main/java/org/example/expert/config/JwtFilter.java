@@ -10,15 +10,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.limit.RateLimitResult;
+import org.example.expert.config.limit.RouteClass;
+import org.example.expert.config.limit.UserRateLimiter;
+import org.example.expert.config.metrics.ServerTiming;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserRoleChangeChecker;
+import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final UserRoleChangeChecker userRoleChangeChecker;
+    private final UserRateLimiter userRateLimiter;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -32,11 +41,12 @@ public class JwtFilter implements Filter {
 
         String url = httpRequest.getRequestURI();
 
-        if (url.startsWith("/auth")) {
+        if (url.startsWith("/auth") || url.equals("/actuator/health")) {
             chain.doFilter(request, response);
             return;
         }
 
+        long timingStart = ServerTiming.start();
         String bearerJwt = httpRequest.getHeader("Authorization");
 
         if (bearerJwt == null) {
@@ -56,12 +66,26 @@ public class JwtFilter implements Filter {
             }
 
             UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            Long userId = Long.parseLong(claims.getSubject());
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
+            // 권한 변경 이전에 발급된 토큰은 이전 userRole 을 담고 있으므로 다시 로그인하도록 합니다.
+            if (userRoleChangeChecker.isStale(userId, userRole, jwtUtil.getIssuedAtMillis(claims))) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "권한이 변경되었습니다. 다시 로그인해주세요.");
+                return;
+            }
+
+            httpRequest.setAttribute("userId", userId);
             httpRequest.setAttribute("email", claims.get("email"));
             httpRequest.setAttribute("userRole", claims.get("userRole"));
+            ServerTiming.stop(ServerTiming.Phase.JWT, timingStart);
+
+            // 사용자별 요청 속도 제한을 넘으면 429를 반환합니다.
+            if (userRateLimiter.isEnabled() && !tryAcquireRateLimit(httpRequest, httpResponse, userId, url)) {
+                return;
+            }
 
-            if (url.startsWith("/admin")) {
+            // 운영 지표(/actuator)도 관리자만 조회할 수 있습니다.
+            if (url.startsWith("/admin") || url.startsWith("/actuator")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
                 if (!UserRole.ADMIN.equals(userRole)) {
                     httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
@@ -87,6 +111,24 @@ public class JwtFilter implements Filter {
         }
     }
 
+    private boolean tryAcquireRateLimit(HttpServletRequest request, HttpServletResponse response, Long userId, String url)
+            throws IOException {
+        RateLimitResult result = userRateLimiter.tryAcquire(userId, RouteClass.of(request.getMethod(), url));
+        response.setHeader("X-RateLimit-Limit", Integer.toString(result.limit()));
+        response.setHeader("X-RateLimit-Remaining", Long.toString(result.remaining()));
+        response.setHeader("X-RateLimit-Reset", Long.toString(toSecondsCeil(result.resetNanos())));
+        if (result.allowed()) {
+            return true;
+        }
+        response.setHeader("Retry-After", Long.toString(toSecondsCeil(result.retryAfterNanos())));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        return false;
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
     @Override
     public void destroy() {
         Filter.super.destroy();
@@ -6,6 +6,8 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.jfr.TokenVerificationEvent;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +24,8 @@ public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    // iat 는 초 단위라서 권한 변경 시각과 ms 단위로 비교할 수 있도록 발급 시각을 따로 넣습니다.
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatMillis";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
@@ -44,6 +48,7 @@ public class JwtUtil {
                         .claim("userRole", userRole)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
+                        .claim(ISSUED_AT_MILLIS_CLAIM, date.getTime())
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
@@ -52,14 +57,40 @@ public class JwtUtil {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
         }
-        throw new ServerException("Not Found Token");
+        throw new ServerException(ErrorCode.TOKEN_NOT_FOUND);
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        boolean valid = false;
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            valid = true;
+            return claims;
+        } finally {
+            event.end();
+            // 녹화 중이 아니거나 threshold 보다 짧으면 필드를 채우지 않고 버립니다.
+            if (event.shouldCommit()) {
+                event.valid = valid;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 토큰 발급 시각(epoch millis). ms 값이 없는 이전 토큰은 iat(초 단위)를 씁니다.
+     */
+    public Long getIssuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.getTime();
     }
 }
@@ -1,17 +1,83 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.expert.config.jfr.PasswordHashEvent;
+import org.example.expert.config.metrics.RequestMetricsContext;
+import org.example.expert.config.metrics.ServerTiming;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
 @Component
 public class PasswordEncoder {
 
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    // BCrypt 는 요청 스레드에서 CPU 만 쓰므로, 실제 경과 시간에서 스레드 CPU 시간을 뺀 만큼이 CPU 를 기다린 시간입니다.
+    private final Timer encodeWaitTimer;
+    private final Timer matchesWaitTimer;
+
+    public PasswordEncoder(MeterRegistry meterRegistry) {
+        this.encodeTimer = timer(meterRegistry, "password.encoder", "encode", "BCrypt hash time");
+        this.matchesTimer = timer(meterRegistry, "password.encoder", "matches", "BCrypt verify time");
+        this.encodeWaitTimer = timer(meterRegistry, "password.encoder.wait", "encode", "Time BCrypt hashing waited for a CPU");
+        this.matchesWaitTimer = timer(meterRegistry, "password.encoder.wait", "matches", "Time BCrypt verification waited for a CPU");
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        long startCpuNanos = currentThreadCpuTime();
+        String encoded = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        record(encodeTimer, encodeWaitTimer, startNanos, startCpuNanos);
+        commit(event, "encode", BCrypt.MIN_COST);
+        return encoded;
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        long startCpuNanos = currentThreadCpuTime();
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+        record(matchesTimer, matchesWaitTimer, startNanos, startCpuNanos);
+        commit(event, "matches", result.details == null ? 0 : result.details.cost);
         return result.verified;
     }
+
+    private static void record(Timer timer, Timer waitTimer, long startNanos, long startCpuNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        long waited = startCpuNanos < 0 ? 0 : Math.max(0, elapsed - (currentThreadCpuTime() - startCpuNanos));
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        waitTimer.record(waited, TimeUnit.NANOSECONDS);
+        RequestMetricsContext.recordBcrypt(elapsed, waited);
+        ServerTiming.add(ServerTiming.Phase.BCRYPT, elapsed);
+    }
+
+    private static void commit(PasswordHashEvent event, String operation, int cost) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.cost = cost;
+            event.commit();
+        }
+    }
+
+    private static long currentThreadCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String operation, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
 }
@@ -1,9 +1,42 @@
 package org.example.expert.config;
 
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.io.IOException;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // 2차 캐시 region 은 ehcache.xml 에 정의합니다. 없는 region 을 쓰면 시작할 때 실패합니다.
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${second-level-cache.enabled:true}") boolean enabled,
+            @Value("${second-level-cache.config:classpath:ehcache.xml}") Resource config,
+            @Value("${second-level-cache.statistics-enabled:true}") boolean statisticsEnabled
+    ) throws IOException {
+        String configUri = config.getURI().toString();
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            // 캐시되는 엔티티(담당자, 유저)는 query 결과에 id 만 담고 엔티티 region 에서 읽습니다.
+            // 기본값(FULL)은 JOIN FETCH 가 있는 query 를 캐시에서 읽을 때 실패합니다. (Hibernate 6.5)
+            properties.put(AvailableSettings.QUERY_CACHE_LAYOUT, CacheLayout.AUTO);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.PROVIDER, EhcacheCachingProvider.class.getName());
+            properties.put(ConfigSettings.CONFIG_URI, configUri);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+        };
+    }
 }
@@ -0,0 +1,62 @@
+package org.example.expert.config.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 트랜잭션을 시작할 때, 어느 DB 에서 읽게 될지에 맞춰 Hibernate 2차 캐시(엔티티, query 캐시) 사용 방식을 정합니다.
+ * - 요청한 사용자가 primary 에 묶여 있으면(ReadYourWritesTracker) 캐시를 건너뜁니다. (IGNORE)
+ *   캐시는 쓰기 전에 읽어 둔 값일 수 있기 때문입니다.
+ * - routing 을 쓰면 readOnly 트랜잭션은 캐시를 읽기만 하고 채우지 않습니다. (GET)
+ *   replica 에서 읽은 오래된 값이 공유 캐시에 들어가면, 권한 변경 등으로 캐시를 비운 뒤에도 다른 요청이 그 값을 보게 됩니다.
+ *   커넥션은 트랜잭션 시작 뒤에 고르므로(replica 지연, 묶임이 그 사이 바뀔 수 있음) primary 로 간 readOnly 트랜잭션도 채우지 않습니다.
+ * - 나머지(primary 에서 읽고 쓰는 트랜잭션)는 평소처럼 캐시를 읽고 채웁니다. (NORMAL)
+ */
+@Component
+public class PinnedUserCacheMode implements TransactionExecutionListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReadYourWritesTracker readYourWrites;
+    // routing 을 쓰지 않으면 모든 트랜잭션이 primary 에서 읽습니다.
+    private final boolean routingEnabled;
+
+    public PinnedUserCacheMode(EntityManagerFactory entityManagerFactory, ReadYourWritesTracker readYourWrites,
+                               @Value("${datasource.routing.enabled:false}") boolean routingEnabled) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.readYourWrites = readYourWrites;
+        this.routingEnabled = routingEnabled;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null) {
+            return;
+        }
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            // open-in-view 로 요청 동안 같은 session 을 쓰므로, 트랜잭션마다 다시 정합니다.
+            // find() 는 session 의 CacheMode 가 아닌 EntityManager 의 JPA 속성으로 정하므로 속성으로 넣습니다. (query 에도 적용됨)
+            CacheMode cacheMode = cacheMode(transaction);
+            entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE, cacheMode.getJpaRetrieveMode());
+            entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE, cacheMode.getJpaStoreMode());
+        }
+    }
+
+    private CacheMode cacheMode(TransactionExecution transaction) {
+        if (readYourWrites.isCurrentUserPinned()) {
+            return CacheMode.IGNORE;
+        }
+        if (routingEnabled && transaction.isReadOnly()) {
+            return CacheMode.GET;
+        }
+        return CacheMode.NORMAL;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 나머지는 primary 로 보냅니다.
+ * 트랜잭션이 시작된 뒤(readOnly 여부가 정해진 뒤) 커넥션을 골라야 하므로 LazyConnectionDataSourceProxy 로 감싸서 씁니다.
+ * 쓰기 트랜잭션을 commit 한 사용자(ReadYourWritesTracker 가 기록)의 읽기는 잠시 동안 primary 로 보냅니다. (read-your-writes)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWrites;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter readYourWritesReads;
+    private final Counter laggingReads;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWrites,
+                                      ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.readYourWrites = readYourWrites;
+        this.lagMonitor = lagMonitor;
+        this.writes = counter(meterRegistry, Target.PRIMARY, "write");
+        this.replicaReads = counter(meterRegistry, Target.REPLICA, "read-only");
+        this.readYourWritesReads = counter(meterRegistry, Target.PRIMARY, "read-your-writes");
+        this.laggingReads = counter(meterRegistry, Target.PRIMARY, "replica-lag");
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return Target.PRIMARY;
+        }
+
+        if (lagMonitor.isLagging()) {
+            laggingReads.increment();
+            return Target.PRIMARY;
+        }
+        Long userId = ReadYourWritesTracker.currentUserId();
+        if (userId != null && readYourWrites.recentlyWrote(userId, lagMonitor.getLagMillis())) {
+            readYourWritesReads.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Physical connections handed out by the read/write routing datasource")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
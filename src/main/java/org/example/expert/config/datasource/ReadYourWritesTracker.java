@@ -0,0 +1,126 @@
+package org.example.expert.config.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 마지막 쓰기(commit) 시각과 순번을 기억합니다.
+ * 쓰기 직후에는 replica 에 아직 반영되지 않았을 수 있으므로, 그 사용자의 읽기는 잠시 primary 로 보냅니다.
+ * 기간은 설정한 window 와 지금 측정된 replica 지연 중 긴 쪽입니다.
+ * 쓰기 트랜잭션의 commit 은 transaction manager 의 listener 로 받습니다. (요청 밖, 백그라운드 스레드의 쓰기는 기록하지 않음)
+ * 사용자가 primary 에 묶여 있는 동안(isCurrentUserPinned)에는 replica 에서 읽어 채운 캐시도 오래된 값일 수 있으므로,
+ * HotTodoCaching, SingleFlightCoalescing, Hibernate 2차 캐시(PinnedUserCacheMode)가 이 값을 보고 캐시를 건너뜁니다.
+ */
+@Component
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Map<Long, Write> lastWrites = new ConcurrentHashMap<>();
+    // 쓰기마다 1씩 늘어나는 순번. 조회를 시작한 시점 이후에 commit 된 쓰기인지 비교할 때 씁니다.
+    private final AtomicLong sequence = new AtomicLong();
+    private final long windowNanos;
+    private final LongSupplier clock;
+    // routing 을 쓰지 않으면(ReplicaLagMonitor 없음) 0
+    private final LongSupplier replicaLagMillis;
+
+    @Autowired
+    public ReadYourWritesTracker(
+            @Value("${datasource.replica.read-your-writes-ms:2000}") long windowMillis,
+            Optional<ReplicaLagMonitor> lagMonitor
+    ) {
+        this(TimeUnit.MILLISECONDS.toNanos(windowMillis), System::nanoTime,
+                lagMonitor.<LongSupplier>map(monitor -> monitor::getLagMillis).orElse(() -> 0));
+    }
+
+    ReadYourWritesTracker(long windowNanos, LongSupplier clock) {
+        this(windowNanos, clock, () -> 0);
+    }
+
+    ReadYourWritesTracker(long windowNanos, LongSupplier clock, LongSupplier replicaLagMillis) {
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+        this.replicaLagMillis = replicaLagMillis;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        Long userId = currentUserId();
+        if (commitFailure == null && !transaction.isReadOnly() && userId != null) {
+            markWrite(userId);
+        }
+    }
+
+    public void markWrite(long userId) {
+        long now = clock.getAsLong();
+        lastWrites.put(userId, new Write(sequence.incrementAndGet(), now));
+        if (lastWrites.size() >= CLEANUP_THRESHOLD) {
+            lastWrites.values().removeIf(write -> now - write.at() > windowNanos);
+        }
+    }
+
+    /**
+     * 최근 쓰기가 replica 에 아직 반영되지 않았을 수 있으면 true
+     */
+    public boolean recentlyWrote(long userId, long replicaLagMillis) {
+        Write write = lastWrites.get(userId);
+        if (write == null) {
+            return false;
+        }
+        long window = Math.max(windowNanos, TimeUnit.MILLISECONDS.toNanos(replicaLagMillis));
+        if (clock.getAsLong() - write.at() <= window) {
+            return true;
+        }
+        lastWrites.remove(userId, write);
+        return false;
+    }
+
+    /**
+     * 요청한 사용자의 읽기가 지금 primary 로 가야 하면 true (routing 을 쓰지 않아도 같은 기간 동안 true)
+     */
+    public boolean isCurrentUserPinned() {
+        Long userId = currentUserId();
+        return userId != null && recentlyWrote(userId, replicaLagMillis.getAsLong());
+    }
+
+    /**
+     * 지금까지 commit 된 마지막 쓰기의 순번
+     */
+    public long currentSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * 사용자의 마지막 쓰기 순번. 쓰기가 없었거나 window 가 지나 지워졌으면 0
+     */
+    public long lastWriteSequence(@Nullable Long userId) {
+        Write write = userId == null ? null : lastWrites.get(userId);
+        return write == null ? 0 : write.sequence();
+    }
+
+    // JwtFilter 가 넣어 둔 요청 사용자. 요청 밖(백그라운드 스레드)이면 null
+    @Nullable
+    public static Long currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (Long) attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private record Write(long sequence, long at) {
+    }
+}
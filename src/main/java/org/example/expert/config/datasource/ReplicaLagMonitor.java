@@ -0,0 +1,86 @@
+package org.example.expert.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.BackgroundThreads;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * lag-query 로 replica 의 복제 지연(ms)을 주기적으로 잽니다.
+ * 지연이 max-lag 를 넘거나 잴 수 없으면 lagging 으로 보고, 읽기를 모두 primary 로 보냅니다.
+ * lag-query 가 비어 있으면 지연을 0 으로 봅니다. 컨텍스트가 닫히면 stop 으로 측정 스레드를 멈춥니다.
+ * (예: PostgreSQL 은 SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0))
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private volatile long lagMillis;
+    private volatile boolean lagging;
+    private volatile boolean running;
+    private Thread poller;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        Gauge.builder("datasource.replica.lag", this, ReplicaLagMonitor::getLagMillis)
+                .description("Replication lag of the read replica measured by datasource.replica.lag-query")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public void start(long pollIntervalMillis, boolean virtual) {
+        if (lagQuery.isBlank()) {
+            return;
+        }
+        running = true;
+        poller = BackgroundThreads.start("replica-lag-monitor", virtual, () -> {
+            while (running) {
+                poll();
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    public void stop() throws InterruptedException {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+            poller.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    void poll() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            lagMillis = resultSet.next() ? Math.max(0, resultSet.getLong(1)) : 0;
+            lagging = lagMillis > maxLagMillis;
+        } catch (SQLException e) {
+            log.warn("failed to measure replica lag, routing reads to primary", e);
+            lagging = true;
+        }
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public boolean isLagging() {
+        return lagging;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * datasource.routing.enabled=true 면 primary / replica pool 을 따로 만들고, readOnly 트랜잭션을 replica 로 보냅니다.
+ * 두 pool 은 각각 DataSourceProxyBeanPostProcessor 로 감싸지고, Hikari 지표는 pool 이름(primary, replica)으로 나뉩니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public DataSource primaryDataSource(
+            @Value("${datasource.primary.url}") String url,
+            @Value("${datasource.primary.username:sa}") String username,
+            @Value("${datasource.primary.password:}") String password,
+            @Value("${datasource.primary.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        return pool("primary", url, username, password, maximumPoolSize, false);
+    }
+
+    @Bean
+    public DataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:sa}") String username,
+            @Value("${datasource.replica.password:}") String password,
+            @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        return pool("replica", url, username, password, maximumPoolSize, true);
+    }
+
+    @Bean(destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.lag-query:}") String lagQuery,
+            @Value("${datasource.replica.max-lag-ms:10000}") long maxLagMillis,
+            @Value("${datasource.replica.lag-poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, maxLagMillis, meterRegistry);
+        monitor.start(pollIntervalMillis, virtualThreads);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWrites,
+            MeterRegistry meterRegistry
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, readYourWrites, replicaLagMonitor, meterRegistry));
+    }
+
+    private static DataSource pool(String name, String url, String username, String password, int maximumPoolSize,
+                                   boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setReadOnly(readOnly);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.expert.config.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * 일정/댓글/담당자 생성 요청(POST)에 Idempotency-Key 헤더가 있으면, 같은 사용자의 같은 key 요청은 한 번만 처리합니다.
+ * 동시에 온 중복 요청은 처음 요청이 끝날 때까지 기다렸다가, 나중에 온 중복 요청은 바로 저장해 둔 응답을 받습니다.
+ * 같은 key 라도 method, URI, 본문(SHA-256) 중 하나라도 다르면 다른 요청으로 보고 422 를 반환합니다.
+ * userId 가 필요하므로 JwtFilter 다음에 둡니다.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Pattern TARGET_URI = Pattern.compile("^/todos(/\\d+/(comments|managers))?$");
+    private static final int MAX_KEY_LENGTH = 255;
+    // 저장하지 않는 헤더. 본문에 맞춰 다시 쓰거나, 응답마다 새로 붙는 헤더입니다.
+    private static final Set<String> UNSTORED_HEADERS = Set.of(
+            "content-type", "content-length", "transfer-encoding", "connection", "date", REPLAYED_HEADER.toLowerCase(Locale.ROOT));
+
+    private final IdempotencyStore store;
+    private final long waitTimeoutMillis;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter bypassed;
+
+    public IdempotencyFilter(IdempotencyStore store, long waitTimeoutMillis, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.executed = counter(meterRegistry, "executed");
+        this.replayed = counter(meterRegistry, "replayed");
+        this.bypassed = counter(meterRegistry, "bypassed");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !TARGET_URI.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Idempotency-Key 는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        IdempotencyKey idempotencyKey = new IdempotencyKey((Long) request.getAttribute("userId"), key);
+        String fingerprint = request.getMethod() + " " + request.getRequestURI() + " " + sha256(cachedRequest.getBody());
+
+        while (true) {
+            IdempotencyStore.Reservation reservation = store.reserve(idempotencyKey, fingerprint);
+            if (reservation == null) {
+                // 저장소가 가득 차면 중복 방지 없이 처리합니다.
+                log.warn("idempotency store is full, processing without deduplication uri={}", request.getRequestURI());
+                bypassed.increment();
+                filterChain.doFilter(cachedRequest, response);
+                return;
+            }
+
+            IdempotencyStore.Entry entry = reservation.entry();
+            if (!entry.getFingerprint().equals(fingerprint)) {
+                response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), "같은 Idempotency-Key 가 다른 요청에 이미 사용되었습니다.");
+                return;
+            }
+
+            if (reservation.owner()) {
+                execute(cachedRequest, response, filterChain, idempotencyKey, entry);
+                return;
+            }
+
+            StoredResponse stored;
+            try {
+                stored = entry.getResult().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.sendError(HttpServletResponse.SC_CONFLICT, "같은 Idempotency-Key 요청이 아직 처리 중입니다.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                throw new ServletException(e.getCause());
+            }
+
+            if (stored != null) {
+                replay(response, stored);
+                return;
+            }
+            // 처음 요청이 응답을 저장하지 않고 끝났으므로 다시 선점을 시도합니다.
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         IdempotencyKey idempotencyKey, IdempotencyStore.Entry entry) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            executed.increment();
+            // 5xx(날씨 조회 실패, 댓글 대기열 초과/저장 지연 취소 등)는 저장된 것이 없으므로 저장하지 않고,
+            // 같은 key 로 다시 보내면 다시 처리합니다. 예외로 끝난 요청(트랜잭션 롤백)도 마찬가지입니다.
+            if (responseWrapper.getStatus() < 500) {
+                store.complete(entry, new StoredResponse(responseWrapper.getStatus(), responseWrapper.getContentType(),
+                        storedHeaders(responseWrapper), responseWrapper.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.abandon(idempotencyKey, entry);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        replayed.increment();
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        // 이번 요청에서 이미 붙은 헤더(JwtFilter 의 X-RateLimit-* 등)는 지금 값을 둡니다.
+        stored.headers().forEach((name, values) -> {
+            if (!response.containsHeader(name)) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static Map<String, List<String>> storedHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!UNSTORED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.putIfAbsent(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+                .description("POST requests carrying an Idempotency-Key, by how they were handled")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.config.idempotency;
+
+/**
+ * Idempotency-Key 는 사용자마다 따로 취급합니다. (다른 사용자가 같은 key 를 보내도 응답을 공유하지 않음)
+ */
+public record IdempotencyKey(Long userId, String key) {
+}
@@ -0,0 +1,164 @@
+package org.example.expert.config.idempotency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.BackgroundThreads;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Idempotency-Key 별 처리 상태. 처리 중인 요청은 완료 future 만, 처리를 마친 요청은 응답까지 TTL 동안 보관합니다.
+ * 크기는 maxEntries 로 제한하고, 만료된 key 는 purge 스레드가 주기적으로 지웁니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final ConcurrentHashMap<IdempotencyKey, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long purgeIntervalMillis;
+    private final LongSupplier clock;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private volatile boolean running;
+    private Thread purger;
+
+    @Autowired
+    public IdempotencyStore(
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${idempotency.purge-interval-ms:10000}") long purgeIntervalMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this(maxEntries, TimeUnit.SECONDS.toNanos(ttlSeconds), purgeIntervalMillis, System::nanoTime);
+        Gauge.builder("idempotency.store.size", entries, ConcurrentHashMap::size)
+                .description("Idempotency keys currently in flight or holding a stored response")
+                .register(meterRegistry);
+    }
+
+    IdempotencyStore(int maxEntries, long ttlNanos, long purgeIntervalMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.purgeIntervalMillis = purgeIntervalMillis;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        purger = BackgroundThreads.start("idempotency-purger", virtualThreads, this::purgeLoop);
+    }
+
+    /**
+     * key 를 처음 쓰는 요청이면 새 entry 를 만들어 owner 로 돌려주고, 이미 있으면 기존 entry 를 돌려줍니다.
+     * 저장소가 가득 차 있으면 null 을 돌려줍니다.
+     */
+    public Reservation reserve(IdempotencyKey key, String fingerprint) {
+        while (true) {
+            long now = clock.getAsLong();
+            Entry existing = entries.get(key);
+            if (existing != null && !existing.isExpired(now)) {
+                return new Reservation(existing, false);
+            }
+            if (existing == null && entries.size() >= maxEntries) {
+                purgeExpired();
+                if (entries.size() >= maxEntries) {
+                    return null;
+                }
+            }
+
+            Entry created = new Entry(fingerprint);
+            boolean reserved = existing == null
+                    ? entries.putIfAbsent(key, created) == null
+                    : entries.replace(key, existing, created);
+            if (reserved) {
+                return new Reservation(created, true);
+            }
+            // 다른 요청이 먼저 선점했으면 다시 확인합니다.
+        }
+    }
+
+    /**
+     * owner 가 처리를 마치면 응답을 저장하고, 기다리던 요청들을 깨웁니다.
+     */
+    public void complete(Entry entry, StoredResponse response) {
+        entry.expiresAt = clock.getAsLong() + ttlNanos;
+        entry.result.complete(response);
+    }
+
+    /**
+     * 저장하지 않을 결과(5xx 응답, 예외)로 끝나면 key 를 지웁니다. 같은 key 로 다시 온 요청과 기다리던 요청들은 다시 처리를 시도합니다.
+     */
+    public void abandon(IdempotencyKey key, Entry entry) {
+        entries.remove(key, entry);
+        entry.result.complete(null);
+    }
+
+    void purgeExpired() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        if (purger != null) {
+            purger.interrupt();
+            purger.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void purgeLoop() {
+        while (running) {
+            try {
+                Thread.sleep(purgeIntervalMillis);
+                purgeExpired();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("idempotency key purge 실패", e);
+            }
+        }
+    }
+
+    public record Reservation(Entry entry, boolean owner) {
+    }
+
+    @Getter
+    public static final class Entry {
+
+        private final String fingerprint;
+        // 처리를 마치면 응답으로, 저장하지 않고 끝나면 null 로 완료됩니다.
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+        // complete 에서 result 를 완료하기 전에 씁니다.
+        @Getter(AccessLevel.NONE)
+        private volatile long expiresAt;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        // 처리 중(result 미완료)에는 만료되지 않습니다.
+        private boolean isExpired(long now) {
+            return result.isDone() && expiresAt - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.config.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 처리를 마친 요청의 응답. 같은 Idempotency-Key 로 다시 온 요청에 그대로 내려보냅니다.
+ * headers 에는 Location, X-RateLimit-* 처럼 처리 중에 붙은 헤더를 담습니다. (Content-Type/Length 등은 제외)
+ */
+public record StoredResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+}
@@ -0,0 +1,24 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("org.example.expert.PasswordHash")
+@Label("Password Hash")
+@Description("BCrypt 해시(encode)와 검증(matches)")
+@Category({"Expert", "Security"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Cost")
+    public int cost;
+}
@@ -0,0 +1,30 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * 서비스에서 호출한 repository 메서드 하나. 느린 호출의 호출 위치를 볼 수 있도록 stack trace 를 남깁니다.
+ */
+@Name("org.example.expert.RepositoryCall")
+@Label("Repository Call")
+@Description("repository 메서드 호출과 조회/변경된 row 수")
+@Category({"Expert", "Persistence"})
+@Threshold("1 ms")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("JPQL")
+    @Description("@Query 로 선언된 JPQL (파생 쿼리나 기본 메서드는 비어 있음)")
+    public String jpql;
+
+    @Label("Row Count")
+    @Description("조회는 가져온 row 수, 변경 쿼리는 영향받은 row 수 (count 쿼리는 1)")
+    public long rowCount;
+}
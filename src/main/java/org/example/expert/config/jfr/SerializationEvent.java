@@ -0,0 +1,21 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("org.example.expert.Serialization")
+@Label("Response Serialization")
+@Description("응답 본문 JSON 직렬화")
+@Category({"Expert", "Web"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class SerializationEvent extends Event {
+
+    @Label("Type")
+    public String type;
+}
@@ -0,0 +1,21 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("org.example.expert.TokenVerification")
+@Label("JWT Verification")
+@Description("JWT 서명 검증과 claims 추출")
+@Category({"Expert", "Security"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+}
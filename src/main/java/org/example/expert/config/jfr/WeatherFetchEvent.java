@@ -0,0 +1,24 @@
+package org.example.expert.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("org.example.expert.WeatherFetch")
+@Label("Weather Fetch")
+@Description("외부 날씨 API 호출")
+@Category({"Expert", "External"})
+@Threshold("10 ms")
+@StackTrace(false)
+public class WeatherFetchEvent extends Event {
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Weather")
+    public String weather;
+}
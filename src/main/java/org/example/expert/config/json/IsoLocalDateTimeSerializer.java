@@ -0,0 +1,80 @@
+package org.example.expert.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDateTime 을 ISO_LOCAL_DATE_TIME 과 같은 형식(2024-01-31T09:05:00.123)으로 씁니다.
+ * 포맷터로 String 을 만들지 않고 char 배열에 바로 채워서 generator 에 넘깁니다. (UTF-8 generator 는 그대로 byte 로 인코딩)
+ * 0~9999 년이 아니거나 timestamp 로 쓰도록 설정되어 있으면 기본 serializer 와 같이 처리합니다.
+ */
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            LocalDateTimeSerializer.INSTANCE.serialize(value, gen, provider);
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        gen.writeString(buffer, 0, format(value, buffer));
+    }
+
+    static int format(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        buffer[0] = digit(year / 1000);
+        buffer[1] = digit(year / 100 % 10);
+        buffer[2] = digit(year / 10 % 10);
+        buffer[3] = digit(year % 10);
+        buffer[4] = '-';
+        writeTwoDigits(value.getMonthValue(), buffer, 5);
+        buffer[7] = '-';
+        writeTwoDigits(value.getDayOfMonth(), buffer, 8);
+        buffer[10] = 'T';
+        writeTwoDigits(value.getHour(), buffer, 11);
+        buffer[13] = ':';
+        writeTwoDigits(value.getMinute(), buffer, 14);
+        buffer[16] = ':';
+        writeTwoDigits(value.getSecond(), buffer, 17);
+
+        // ISO_LOCAL_DATE_TIME 처럼 소수점 아래는 끝의 0 을 빼고 씁니다. (0 이면 생략)
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            for (int divisor = 100_000_000; nano != 0; divisor /= 10) {
+                buffer[length++] = digit(nano / divisor);
+                nano %= divisor;
+            }
+        }
+        return length;
+    }
+
+    private static void writeTwoDigits(int value, char[] buffer, int offset) {
+        buffer[offset] = digit(value / 10);
+        buffer[offset + 1] = digit(value % 10);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
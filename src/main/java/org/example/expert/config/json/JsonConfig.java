@@ -0,0 +1,33 @@
+package org.example.expert.config.json;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응답 DTO 직렬화 설정. 스프링 부트가 Module 빈을 ObjectMapper 에 등록합니다.
+ */
+@Configuration
+public class JsonConfig {
+
+    // getter 호출을 reflection 대신 LambdaMetafactory 로 만든 accessor 로 바꿉니다.
+    @Bean
+    @ConditionalOnProperty(name = "json.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // JavaTimeModule 보다 나중에 등록되므로 LocalDateTime 은 이 serializer 가 씁니다.
+    @Bean
+    @ConditionalOnProperty(name = "json.iso-local-date-time.enabled", havingValue = "true", matchIfMissing = true)
+    public Module isoLocalDateTimeModule() {
+        SimpleModule module = new SimpleModule("iso-local-date-time");
+        module.addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+        return module;
+    }
+}
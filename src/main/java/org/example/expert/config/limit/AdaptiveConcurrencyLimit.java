@@ -0,0 +1,124 @@
+package org.example.expert.config.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 관측한 응답 시간으로 동시 처리 한도를 조절합니다. (gradient 방식)
+ * 창(window)마다 평균 응답 시간(short)을 장기 평균(long)과 비교해서,
+ * 응답 시간이 늘어나면(= 어딘가에서 대기열이 생기면) 한도를 줄이고, 그대로면 sqrt(limit) 만큼씩 늘립니다.
+ * 한도를 넘는 요청은 기다리게 하지 않고 바로 거절하도록 tryAcquire 만 제공합니다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    // short 가 long 의 1.5배까지는 정상 범위로 봅니다.
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LIMIT_SMOOTHING = 0.2;
+    // 장기 평균은 최근 약 20개 창의 지수 이동 평균입니다.
+    private static final double LONG_RTT_WINDOWS = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long windowNanos;
+    private final long minSamples;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowPeakInFlight = new AtomicInteger();
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder rttCount = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile int limit;
+    private volatile long windowStart;
+    // updateLock 안에서만 갱신합니다.
+    private double estimatedLimit;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long windowNanos, long minSamples, LongSupplier clock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimit 은 1 이상, maxLimit 이하여야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowNanos = windowNanos;
+        this.minSamples = minSamples;
+        this.clock = clock;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.windowStart = clock.getAsLong();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowPeakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire 에 성공한 요청이 끝나면 처리 시간과 함께 호출합니다.
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        rttSum.add(rttNanos);
+        rttCount.increment();
+
+        long now = clock.getAsLong();
+        if (now - windowStart < windowNanos || rttCount.sum() < minSamples || !updateLock.tryLock()) {
+            return;
+        }
+        try {
+            if (now - windowStart >= windowNanos) {
+                update(now);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(long now) {
+        long count = rttCount.sumThenReset();
+        long sum = rttSum.sumThenReset();
+        int peakInFlight = windowPeakInFlight.getAndSet(inFlight.get());
+        windowStart = now;
+        if (count == 0) {
+            return;
+        }
+
+        double shortRtt = (double) sum / count;
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / LONG_RTT_WINDOWS;
+        // 지연이 회복됐는데 장기 평균이 느리게 따라오면 한도가 계속 낮게 머무르므로 기준을 빨리 내립니다.
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // 한도의 절반도 쓰지 않았으면 트래픽이 적은 것이므로 한도를 늘리지 않습니다.
+        if (peakInFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double next = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        next = estimatedLimit * (1 - LIMIT_SMOOTHING) + next * LIMIT_SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.config.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 요청 분류(TrafficClass)별 동시 처리 한도를 넘는 요청을 Tomcat 대기열에 쌓아 두지 않고 바로 503 으로 돌려보냅니다.
+ * JwtFilter 보다 앞에 두어, 거절할 요청에는 JWT 검증 비용도 쓰지 않습니다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTED_BODY =
+            "{\"status\":\"SERVICE_UNAVAILABLE\",\"code\":503,\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final Map<TrafficClass, AdaptiveConcurrencyLimit> limits;
+    private final Map<TrafficClass, Counter> rejected = new EnumMap<>(TrafficClass.class);
+    private final String retryAfterSeconds;
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry, Map<TrafficClass, AdaptiveConcurrencyLimit> limits,
+                                  long retryAfterSeconds, boolean enabled) {
+        this.limits = new EnumMap<>(limits);
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        this.enabled = enabled;
+
+        this.limits.forEach((trafficClass, limit) -> {
+            Gauge.builder("http.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("traffic", trafficClass.getTag())
+                    .register(meterRegistry);
+            Gauge.builder("http.server.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .description("Requests currently holding a concurrency permit")
+                    .tag("traffic", trafficClass.getTag())
+                    .register(meterRegistry);
+            rejected.put(trafficClass, Counter.builder("http.server.concurrency.rejected")
+                    .description("Requests rejected with 503 because the concurrency limit was reached")
+                    .tag("traffic", trafficClass.getTag())
+                    .register(meterRegistry));
+        });
+    }
+
+    // health check 는 부하와 상관없이 응답해야 합니다.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().equals("/actuator/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TrafficClass trafficClass = TrafficClass.of(request.getRequestURI());
+        AdaptiveConcurrencyLimit limit = limits.get(trafficClass);
+
+        if (!limit.tryAcquire()) {
+            rejected.get(trafficClass).increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(REJECTED_BODY.length);
+            response.getOutputStream().write(REJECTED_BODY);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.config.limit;
+
+/**
+ * @param remaining  이번 요청 뒤에 바로 더 보낼 수 있는 요청 수
+ * @param resetNanos bucket 이 다시 가득 찰 때까지 남은 시간
+ * @param retryAfterNanos 거절된 경우, 다음 요청이 허용될 때까지 남은 시간
+ */
+public record RateLimitResult(boolean allowed, int limit, long remaining, long resetNanos, long retryAfterNanos) {
+}
@@ -0,0 +1,13 @@
+package org.example.expert.config.limit;
+
+/**
+ * 초당 permitsPerSecond 개씩 채워지고, 최대 burst 개까지 모아 둘 수 있는 token bucket 설정.
+ */
+public record RateLimitRule(double permitsPerSecond, int burst) {
+
+    public RateLimitRule {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond 는 0 보다 커야 하고, burst 는 1 이상이어야 합니다.");
+        }
+    }
+}
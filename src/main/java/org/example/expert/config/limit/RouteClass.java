@@ -0,0 +1,31 @@
+package org.example.expert.config.limit;
+
+import lombok.Getter;
+
+/**
+ * 사용자별 요청 속도 제한을 따로 두는 요청 분류.
+ * read 는 GET/HEAD 만이고, OPTIONS 를 포함한 나머지 method 는 write 로 셉니다.
+ */
+@Getter
+public enum RouteClass {
+
+    READ("read"),
+    WRITE("write"),
+    ADMIN("admin");
+
+    private final String tag;
+
+    RouteClass(String tag) {
+        this.tag = tag;
+    }
+
+    public static RouteClass of(String method, String uri) {
+        if (uri.startsWith("/admin") || uri.startsWith("/actuator")) {
+            return ADMIN;
+        }
+        if (method.equals("GET") || method.equals("HEAD")) {
+            return READ;
+        }
+        return WRITE;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.config.limit;
+
+import lombok.Getter;
+
+/**
+ * 동시 처리 한도를 따로 두는 요청 분류.
+ * 한도를 나눠 두어서 로그인 폭주(BCrypt)가 일반 API 자리를 차지하지 못하게 하고,
+ * 일반 트래픽이 몰려도 관리자 API 는 자기 몫으로 처리할 수 있게 합니다.
+ * 한도는 설정한 max-limit 에서 시작해서, 응답 시간이 늘어날 때만 minLimit 까지 줄어듭니다.
+ */
+@Getter
+public enum TrafficClass {
+
+    DEFAULT("default", 4),
+    AUTH("auth", 1),
+    ADMIN("admin", 1);
+
+    private final String tag;
+    private final int minLimit;
+
+    TrafficClass(String tag, int minLimit) {
+        this.tag = tag;
+        this.minLimit = minLimit;
+    }
+
+    public static TrafficClass of(String uri) {
+        if (uri.startsWith("/auth")) {
+            return AUTH;
+        }
+        if (uri.startsWith("/admin") || uri.startsWith("/actuator")) {
+            return ADMIN;
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.expert.config.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자 x 요청 분류(RouteClass)별 token bucket.
+ * bucket 하나는 "다음 요청이 허용되는 이론상 시각(TAT)" 하나로 표현합니다. (GCRA, token bucket 과 같은 동작)
+ * 요청마다 TAT 를 한 번 compareAndSet 하므로 lock 이 없습니다.
+ *
+ * 테이블은 크기가 고정된 [key, tat] 배열이고, key 의 hash 로 stripe(8칸) 하나를 고른 뒤 그 안에서만 찾습니다.
+ * 오래(idle) 쓰이지 않은 칸은 다른 key 가 가져갑니다. 그 칸의 TAT 는 이미 지난 시각이므로 가득 찬 bucket 과 같습니다.
+ * stripe 가 모두 최근에 쓰인 key 로 차 있으면 제한하지 않고 통과시킵니다. (rate.limit.table.overflow)
+ */
+public class UserRateLimiter {
+
+    private static final int STRIPE_SIZE = 8;
+    private static final int ROUTE_CLASSES = RouteClass.values().length;
+
+    private final boolean enabled;
+    private final AtomicLongArray slots;
+    private final int stripeMask;
+    private final long idleNanos;
+    private final LongSupplier clock;
+    private final long origin;
+
+    // RouteClass.ordinal() 로 찾습니다.
+    private final long[] emissionNanos = new long[ROUTE_CLASSES];
+    private final long[] capacityNanos = new long[ROUTE_CLASSES];
+    private final int[] burst = new int[ROUTE_CLASSES];
+    private final Counter[] rejected = new Counter[ROUTE_CLASSES];
+    private final Counter overflow;
+
+    public UserRateLimiter(MeterRegistry meterRegistry, boolean enabled, int tableSize, Map<RouteClass, RateLimitRule> rules,
+                           long idleNanos, LongSupplier clock) {
+        int stripes = Integer.highestOneBit(Math.max(STRIPE_SIZE, tableSize) - 1) * 2 / STRIPE_SIZE;
+        this.enabled = enabled;
+        this.slots = new AtomicLongArray(stripes * STRIPE_SIZE * 2);
+        this.stripeMask = stripes - 1;
+        this.idleNanos = idleNanos;
+        this.clock = clock;
+        // TAT 0(빈 칸)이 항상 지난 시각이 되도록, 생성 시점을 기준으로 시간을 잽니다.
+        this.origin = clock.getAsLong() - 1;
+
+        for (RouteClass routeClass : RouteClass.values()) {
+            RateLimitRule rule = rules.get(routeClass);
+            int i = routeClass.ordinal();
+            emissionNanos[i] = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rule.permitsPerSecond()));
+            capacityNanos[i] = emissionNanos[i] * rule.burst();
+            burst[i] = rule.burst();
+            rejected[i] = Counter.builder("http.server.requests.rate.limited")
+                    .description("Requests rejected with 429 by the per-user rate limit")
+                    .tag("route", routeClass.getTag())
+                    .register(meterRegistry);
+        }
+        this.overflow = Counter.builder("rate.limit.table.overflow")
+                .description("Requests let through because the rate limit table stripe had no free slot")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public RateLimitResult tryAcquire(long userId, RouteClass routeClass) {
+        long now = clock.getAsLong() - origin;
+        int route = routeClass.ordinal();
+        // 0 은 빈 칸을 뜻하므로 key 는 1 부터 씁니다.
+        long key = userId * ROUTE_CLASSES + route + 1;
+        int base = (spread(key) & stripeMask) * STRIPE_SIZE * 2;
+
+        for (int i = base; i < base + STRIPE_SIZE * 2; i += 2) {
+            if (slots.get(i) == key) {
+                return consume(i + 1, route, now);
+            }
+        }
+        for (int i = base; i < base + STRIPE_SIZE * 2; i += 2) {
+            long slotKey = slots.get(i);
+            if ((slotKey == 0 || slots.get(i + 1) + idleNanos <= now) && slots.compareAndSet(i, slotKey, key)) {
+                return consume(i + 1, route, now);
+            }
+            // 같은 key 로 다른 요청이 먼저 칸을 잡은 경우
+            if (slots.get(i) == key) {
+                return consume(i + 1, route, now);
+            }
+        }
+
+        overflow.increment();
+        return new RateLimitResult(true, burst[route], burst[route], 0, 0);
+    }
+
+    private RateLimitResult consume(int tatIndex, int route, long now) {
+        long emission = emissionNanos[route];
+        long capacity = capacityNanos[route];
+        while (true) {
+            long tat = slots.get(tatIndex);
+            long next = Math.max(tat, now) + emission;
+            long backlog = next - now;
+            if (backlog > capacity) {
+                rejected[route].increment();
+                return new RateLimitResult(false, burst[route], 0, Math.max(0, tat - now), backlog - capacity);
+            }
+            if (slots.compareAndSet(tatIndex, tat, next)) {
+                return new RateLimitResult(true, burst[route], (capacity - backlog) / emission, backlog, 0);
+            }
+        }
+    }
+
+    private static int spread(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 샘플링한 요청이 요청 스레드에서 할당한 heap 바이트 수를 handler 태그로 기록합니다.
+ * 임계값을 넘는 요청은 어떤 요청이었는지 로그로 남깁니다.
+ * (요청 스레드 밖 - 비동기 작업 등 - 에서 할당한 양은 포함되지 않습니다.)
+ * JDK 21 은 가상 스레드의 할당량을 재지 못하므로(-1 반환) 가상 스레드에서 처리하는 요청은 기록하지 않습니다.
+ * spring.threads.virtual.enabled=true 면 이 지표는 비어 있게 됩니다.
+ */
+@Slf4j
+public class AllocationMetricsFilter extends OncePerRequestFilter {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final long logThresholdBytes;
+    private final boolean supported;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public AllocationMetricsFilter(MeterRegistry meterRegistry, double sampleRate, long logThresholdBytes) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.logThresholdBytes = logThresholdBytes;
+        this.supported = THREAD_MX_BEAN.isThreadAllocatedMemorySupported() && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !supported || sampleRate <= 0 || Thread.currentThread().isVirtual()
+                || ThreadLocalRandom.current().nextDouble() >= sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long endBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            // 잴 수 없으면 -1 이 나오므로 0 바이트로 기록하지 않고 건너뜁니다.
+            if (startBytes >= 0 && endBytes >= 0) {
+                record(request, response, endBytes - startBytes);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long allocated) {
+        String handler = HandlerNames.of(request);
+        summaries.computeIfAbsent(handler, this::registerSummary).record(allocated);
+
+        if (allocated >= logThresholdBytes) {
+            String query = request.getQueryString();
+            log.warn("allocation-heavy request handler={} method={} uri={} status={} allocatedBytes={}",
+                    handler, request.getMethod(),
+                    query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query,
+                    response.getStatus(), allocated);
+        }
+    }
+
+    private DistributionSummary registerSummary(String handler) {
+        return DistributionSummary.builder("http.server.requests.allocated")
+                .description("Heap bytes allocated by the request thread per sampled request")
+                .baseUnit("bytes")
+                .tag("handler", handler)
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(1024.0 * 1024 * 1024)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.config.metrics;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 DataSource 를 datasource-proxy 로 감싸 등록된 모든 QueryExecutionListener 에 실행을 알립니다.
+ * Hikari 자체 metric 은 프록시가 unwrap 을 위임하므로 그대로 수집됩니다.
+ * read/write routing 을 쓰면 실제 pool(primary, replica)만 감싸고, 그 위의 routing/lazy 프록시는 감싸지 않습니다. (같은 SQL 을 두 번 세지 않도록)
+ */
+public class DataSourceProxyBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryExecutionListener> listeners;
+
+    public DataSourceProxyBeanPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                || bean instanceof LazyConnectionDataSourceProxy || bean instanceof AbstractRoutingDataSource) {
+            return bean;
+        }
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+        listeners.orderedStream().forEach(builder::listener);
+        return builder.build();
+    }
+}
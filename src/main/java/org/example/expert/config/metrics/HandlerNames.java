@@ -0,0 +1,27 @@
+package org.example.expert.config.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청을 처리한 @RestController 메서드를 "TodoController.getTodos" 형태의 metric tag 로 바꿉니다.
+ */
+public final class HandlerNames {
+
+    public static final String NONE = "none";
+
+    private HandlerNames() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        if (request == null) {
+            return NONE;
+        }
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return NONE;
+    }
+}
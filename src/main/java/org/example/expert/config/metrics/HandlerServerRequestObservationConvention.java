@@ -0,0 +1,16 @@
+package org.example.expert.config.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * 기본 http.server.requests 태그(uri, method, status ...)에 처리한 컨트롤러 메서드(handler)를 추가합니다.
+ */
+public class HandlerServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and("handler", HandlerNames.of(context.getCarrier()));
+    }
+}
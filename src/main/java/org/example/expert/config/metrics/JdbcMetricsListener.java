@@ -0,0 +1,52 @@
+package org.example.expert.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC statement 실행마다 jdbc.statements 타이머(쿼리 종류별)와 요청별 사용량을 기록합니다.
+ */
+public class JdbcMetricsListener implements QueryExecutionListener {
+
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+    private final Map<QueryType, Timer> timers = new EnumMap<>(QueryType.class);
+
+    public JdbcMetricsListener(MeterRegistry meterRegistry) {
+        for (QueryType type : QueryType.values()) {
+            timers.put(type, Timer.builder("jdbc.statements")
+                    .description("JDBC statement execution time")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        startNanos.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = startNanos.get();
+        if (start == null) {
+            return;
+        }
+        startNanos.remove();
+        long elapsed = System.nanoTime() - start;
+
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        timers.get(type).record(elapsed, TimeUnit.NANOSECONDS);
+        RequestMetricsContext.recordJdbc(elapsed);
+        ServerTiming.add(ServerTiming.Phase.DB, elapsed);
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.config.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+
+@Configuration
+public class MetricsConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static 으로 등록합니다.
+    @Bean
+    public static DataSourceProxyBeanPostProcessor dataSourceProxyBeanPostProcessor(
+            ObjectProvider<QueryExecutionListener> listeners
+    ) {
+        return new DataSourceProxyBeanPostProcessor(listeners);
+    }
+
+    @Bean
+    public JdbcMetricsListener jdbcMetricsListener(MeterRegistry meterRegistry) {
+        return new JdbcMetricsListener(meterRegistry);
+    }
+
+    @Bean
+    public HandlerServerRequestObservationConvention handlerServerRequestObservationConvention() {
+        return new HandlerServerRequestObservationConvention();
+    }
+
+    // JwtFilter 에서 거절된 요청까지 포함하도록 가장 바깥에 둡니다.
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestMetricsFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new RequestMetricsFilter(meterRegistry));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registrationBean;
+    }
+
+    // 요청 스레드의 할당량 샘플링. JwtFilter 에서 거절된 요청도 포함합니다.
+    @Bean
+    public FilterRegistrationBean<AllocationMetricsFilter> allocationMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${allocation-metrics.sample-rate:0.1}") double sampleRate,
+            @Value("${allocation-metrics.log-threshold-bytes:16777216}") long logThresholdBytes
+    ) {
+        FilterRegistrationBean<AllocationMetricsFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new AllocationMetricsFilter(meterRegistry, sampleRate, logThresholdBytes));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        return registrationBean;
+    }
+
+    // RequestMetricsFilter 안쪽, JwtFilter 바깥에 두어 JWT 검증 시간까지 포함합니다.
+    // 꺼져 있으면 요청을 그대로 통과시킵니다.
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${server-timing.enabled:false}") boolean enabled,
+            @Value("${server-timing.log-sample-rate:0.01}") double logSampleRate
+    ) {
+        FilterRegistrationBean<ServerTimingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ServerTimingFilter(enabled, logSampleRate));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registrationBean;
+    }
+
+    // 스프링 부트 기본 MappingJackson2HttpMessageConverter 를 대신합니다. (Server-Timing json 구간, JFR 직렬화 이벤트)
+    @Bean
+    public TimedMappingJackson2HttpMessageConverter timedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedMappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    // 인자 변환 계측은 Server-Timing 이 켜져 있을 때만 등록합니다.
+    @Configuration
+    @ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+    static class ServerTimingInstrumentationConfig {
+
+        @Bean
+        public static BeanPostProcessor timedArgumentResolverBeanPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof RequestMappingHandlerAdapter adapter && adapter.getArgumentResolvers() != null) {
+                        List<HandlerMethodArgumentResolver> resolvers = adapter.getArgumentResolvers().stream()
+                                .<HandlerMethodArgumentResolver>map(TimedHandlerMethodArgumentResolver::new)
+                                .toList();
+                        adapter.setArgumentResolvers(resolvers);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
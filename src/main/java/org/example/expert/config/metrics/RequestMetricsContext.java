@@ -0,0 +1,66 @@
+package org.example.expert.config.metrics;
+
+/**
+ * 요청 하나 동안 쌓이는 JDBC / BCrypt 사용량.
+ * RequestMetricsFilter 가 요청 스레드에 열고 닫으며, 요청 밖(스케줄러, 배치 등)에서는 기록이 무시됩니다.
+ */
+public final class RequestMetricsContext {
+
+    private static final ThreadLocal<RequestMetricsContext> CURRENT = new ThreadLocal<>();
+
+    private int jdbcStatements;
+    private long jdbcNanos;
+    private int bcryptOperations;
+    private long bcryptNanos;
+    private long bcryptWaitNanos;
+
+    private RequestMetricsContext() {
+    }
+
+    static RequestMetricsContext begin() {
+        RequestMetricsContext context = new RequestMetricsContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static void recordJdbc(long nanos) {
+        RequestMetricsContext context = CURRENT.get();
+        if (context != null) {
+            context.jdbcStatements++;
+            context.jdbcNanos += nanos;
+        }
+    }
+
+    public static void recordBcrypt(long nanos, long waitNanos) {
+        RequestMetricsContext context = CURRENT.get();
+        if (context != null) {
+            context.bcryptOperations++;
+            context.bcryptNanos += nanos;
+            context.bcryptWaitNanos += waitNanos;
+        }
+    }
+
+    public int getJdbcStatements() {
+        return jdbcStatements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public int getBcryptOperations() {
+        return bcryptOperations;
+    }
+
+    public long getBcryptNanos() {
+        return bcryptNanos;
+    }
+
+    public long getBcryptWaitNanos() {
+        return bcryptWaitNanos;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JDBC statement 수/시간과 BCrypt 시간을 모아, 처리한 컨트롤러 메서드(handler) 태그로 기록합니다.
+ * 지연 시간 자체는 http.server.requests 가 같은 handler 태그로 기록합니다.
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestMetricsContext context = RequestMetricsContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestMetricsContext.end();
+            record(HandlerNames.of(request), context);
+        }
+    }
+
+    private void record(String handler, RequestMetricsContext context) {
+        DistributionSummary.builder("http.server.requests.jdbc.statements")
+                .description("JDBC statements executed per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(context.getJdbcStatements());
+        Timer.builder("http.server.requests.jdbc.time")
+                .description("Time spent in JDBC per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(context.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (context.getBcryptOperations() > 0) {
+            Timer.builder("http.server.requests.bcrypt.time")
+                    .description("Time spent hashing or verifying passwords per request")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .record(context.getBcryptNanos(), TimeUnit.NANOSECONDS);
+            Timer.builder("http.server.requests.bcrypt.wait")
+                    .description("Time BCrypt work spent waiting for a CPU per request")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .record(context.getBcryptWaitNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.expert.config.metrics;
+
+import java.util.Arrays;
+
+/**
+ * 요청 하나의 구간별 소요 시간 (Server-Timing 헤더용).
+ * ServerTimingFilter 가 켜져 있을 때만 자기 pool 에서 꺼낸 객체를 현재 스레드에 묶어 두고, 요청이 끝나면 돌려받아 재사용합니다.
+ * 묶인 객체가 없으면(꺼져 있거나 요청 밖) start/add 는 ThreadLocal 하나만 읽고 돌아갑니다.
+ * 켜짐 여부는 filter 인스턴스가 들고 있으므로 같은 JVM 의 다른 애플리케이션 컨텍스트(테스트 등)에 영향을 주지 않습니다.
+ * 가상 스레드에서는 요청마다 스레드가 새로 만들어지므로 ThreadLocal 항목 하나는 매번 할당되지만, 측정 버퍼는 pool 에서 재사용합니다.
+ *
+ * <pre>
+ * long start = ServerTiming.start();
+ * ...
+ * ServerTiming.stop(ServerTiming.Phase.WEATHER, start);
+ * </pre>
+ */
+public final class ServerTiming {
+
+    public enum Phase {
+        // 헤더 값은 ISO-8859-1 이어야 하므로 desc 는 영문으로 둡니다.
+        JWT("jwt", "JWT verification"),
+        ARGS("args", "Argument resolution"),
+        DB("db", "JDBC"),
+        WEATHER("weather", "Weather API"),
+        BCRYPT("bcrypt", "BCrypt"),
+        JSON("json", "JSON serialization");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+
+        public String description() {
+            return description;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+
+    ServerTiming() {
+    }
+
+    /**
+     * 구간 시작 시각. 측정 중인 요청이 아니면 0 을 반환하고, 이때 stop 은 아무것도 하지 않습니다.
+     */
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void stop(Phase phase, long startNanos) {
+        if (startNanos != 0) {
+            add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * 이미 잰 시간을 더합니다. 요청 밖(배치, 스케줄러 등)에서는 무시됩니다.
+     */
+    public static void add(Phase phase, long elapsedNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[phase.ordinal()] += elapsedNanos;
+            timing.counts[phase.ordinal()]++;
+        }
+    }
+
+    // 비워서 현재 스레드에 묶습니다.
+    void bind() {
+        Arrays.fill(nanos, 0);
+        Arrays.fill(counts, 0);
+        CURRENT.set(this);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * 0 이 아닌 구간과 전체 시간을 Server-Timing 헤더 값으로 만듭니다.
+     * 예) jwt;dur=0.21, db;dur=3.52;desc="JDBC x4", total;dur=5.10
+     */
+    String toHeaderValue(long totalNanos) {
+        StringBuilder value = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            appendMetric(value, phase.metricName, nanos[phase.ordinal()]);
+            value.append(";desc=\"").append(phase.description);
+            if (count > 1) {
+                value.append(" x").append(count);
+            }
+            value.append('"');
+            value.append(", ");
+        }
+        appendMetric(value, "total", totalNanos);
+        return value.toString();
+    }
+
+    /**
+     * 샘플링 로그용 key=value 한 줄. 예) jwt=0.210 db=3.520 db_count=4 ...
+     */
+    String toLogFields() {
+        StringBuilder fields = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            if (fields.length() > 0) {
+                fields.append(' ');
+            }
+            fields.append(phase.metricName).append('=').append(millis(nanos[phase.ordinal()]))
+                    .append(' ').append(phase.metricName).append("_count=").append(counts[phase.ordinal()]);
+        }
+        return fields.toString();
+    }
+
+    private static void appendMetric(StringBuilder value, String name, long nanos) {
+        value.append(name).append(";dur=").append(millis(nanos));
+    }
+
+    // 소수점 셋째 자리까지의 ms 문자열 (String.format 없이)
+    static String millis(long nanos) {
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        return (micros / 1_000) + "." + (fraction < 10 ? "00" : fraction < 100 ? "0" : "") + fraction;
+    }
+}
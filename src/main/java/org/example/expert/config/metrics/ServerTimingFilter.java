@@ -0,0 +1,68 @@
+package org.example.expert.config.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * server-timing.enabled=true 일 때 요청별 구간 시간을 Server-Timing 헤더와 샘플링된 로그로 남깁니다.
+ * 응답 직렬화 시간까지 헤더에 담기 위해, 켜져 있을 때만 응답 본문을 버퍼링했다가 헤더를 붙인 뒤 내보냅니다.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+    // 동시에 처리 중인 요청 수만큼만 차고, 넘치면 새로 만든 객체는 버립니다.
+    private static final int POOL_CAPACITY = 1024;
+
+    private final boolean enabled;
+    private final double logSampleRate;
+    private final ArrayBlockingQueue<ServerTiming> pool = new ArrayBlockingQueue<>(POOL_CAPACITY);
+
+    public ServerTimingFilter(boolean enabled, double logSampleRate) {
+        this.enabled = enabled;
+        this.logSampleRate = logSampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        ServerTiming timing = pool.poll();
+        if (timing == null) {
+            timing = new ServerTiming();
+        }
+        timing.bind();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            ServerTiming.unbind();
+            long totalNanos = System.nanoTime() - startNanos;
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, timing.toHeaderValue(totalNanos));
+            }
+            responseWrapper.copyBodyToResponse();
+
+            if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+                log.info("server-timing method={} uri={} handler={} status={} total={} {}",
+                        request.getMethod(), request.getRequestURI(), HandlerNames.of(request), response.getStatus(),
+                        ServerTiming.millis(totalNanos), timing.toLogFields());
+            }
+            pool.offer(timing);
+        }
+    }
+}
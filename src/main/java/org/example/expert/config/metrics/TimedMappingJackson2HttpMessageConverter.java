@@ -0,0 +1,38 @@
+package org.example.expert.config.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.jfr.SerializationEvent;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 응답 JSON 직렬화 시간을 ServerTiming 의 json 구간과 JFR SerializationEvent 로 기록합니다.
+ */
+public class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        long start = ServerTiming.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.JSON, start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = object.getClass().getName();
+                event.commit();
+            }
+        }
+    }
+}
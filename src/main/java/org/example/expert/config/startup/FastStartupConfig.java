@@ -0,0 +1,28 @@
+package org.example.expert.config.startup;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * faststart profile: 새 인스턴스가 빨리 요청을 받을 수 있도록 시작 작업을 줄입니다.
+ * JPA repository 는 백그라운드에서 EntityManagerFactory 를 만드는 동안 지연(deferred) 초기화하고 (application-faststart.properties),
+ * 요청 처리에 바로 필요하지 않은 빈(날씨 API 클라이언트, 관리자 API controller)은 처음 쓸 때 만듭니다.
+ */
+@Configuration
+@Profile("faststart")
+public class FastStartupConfig {
+
+    private static final String DEFAULT_LAZY_BEANS = "weatherClient,auditAdminController,userAdminController,"
+            + "commentAdminController,todoHotKeyAdminController";
+
+    // BeanFactoryPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static 으로 등록합니다.
+    @Bean
+    public static LazyBeansPostProcessor lazyBeansPostProcessor(Environment environment) {
+        String beanNames = environment.getProperty("faststart.lazy-beans", DEFAULT_LAZY_BEANS);
+        return new LazyBeansPostProcessor(List.of(beanNames.split("\\s*,\\s*")));
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.expert.config.startup;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.AutowireCandidateResolver;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 지정한 빈을 시작할 때 만들지 않고 처음 쓸 때 만듭니다.
+ * 다른 빈에 주입되는 곳에는 lazy 프록시를 넣어서, 주입하는 빈이 먼저 만들어져도 실제 빈은 처음 호출될 때 만들어집니다.
+ * 주입 후보 판단(@Qualifier, @Value, @Lazy 등)은 기존 AutowireCandidateResolver 에 그대로 맡깁니다.
+ */
+public class LazyBeansPostProcessor implements BeanFactoryPostProcessor {
+
+    private final Collection<String> beanNames;
+
+    public LazyBeansPostProcessor(Collection<String> beanNames) {
+        this.beanNames = beanNames;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> lazyTypes = new HashSet<>();
+        for (String beanName : beanNames) {
+            if (!beanFactory.containsBeanDefinition(beanName)) {
+                continue;
+            }
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            beanDefinition.setLazyInit(true);
+            if (beanDefinition.getBeanClassName() != null) {
+                lazyTypes.add(ClassUtils.resolveClassName(beanDefinition.getBeanClassName(), beanFactory.getBeanClassLoader()));
+            }
+        }
+
+        if (!lazyTypes.isEmpty() && beanFactory instanceof DefaultListableBeanFactory listableBeanFactory) {
+            listableBeanFactory.setAutowireCandidateResolver(
+                    new LazyTypesAutowireCandidateResolver(listableBeanFactory.getAutowireCandidateResolver(), lazyTypes, listableBeanFactory));
+        }
+    }
+
+    /**
+     * 기존 resolver 에 위임하고, 기존 resolver 가 lazy 프록시를 만들지 않은 지정 타입 주입에만 lazy 프록시를 넣습니다.
+     */
+    private static final class LazyTypesAutowireCandidateResolver implements AutowireCandidateResolver {
+
+        private final AutowireCandidateResolver delegate;
+        private final Set<Class<?>> lazyTypes;
+        // 프록시 생성만 씁니다. (항상 lazy)
+        private final ContextAnnotationAutowireCandidateResolver lazyProxies = new ContextAnnotationAutowireCandidateResolver() {
+            @Override
+            protected boolean isLazy(DependencyDescriptor descriptor) {
+                return true;
+            }
+        };
+
+        private LazyTypesAutowireCandidateResolver(AutowireCandidateResolver delegate, Set<Class<?>> lazyTypes,
+                                                   DefaultListableBeanFactory beanFactory) {
+            this.delegate = delegate;
+            this.lazyTypes = lazyTypes;
+            this.lazyProxies.setBeanFactory(beanFactory);
+        }
+
+        @Override
+        public boolean isAutowireCandidate(BeanDefinitionHolder bdHolder, DependencyDescriptor descriptor) {
+            return delegate.isAutowireCandidate(bdHolder, descriptor);
+        }
+
+        @Override
+        public boolean isRequired(DependencyDescriptor descriptor) {
+            return delegate.isRequired(descriptor);
+        }
+
+        @Override
+        public boolean hasQualifier(DependencyDescriptor descriptor) {
+            return delegate.hasQualifier(descriptor);
+        }
+
+        @Override
+        @Nullable
+        public Object getSuggestedValue(DependencyDescriptor descriptor) {
+            return delegate.getSuggestedValue(descriptor);
+        }
+
+        @Override
+        @Nullable
+        public Object getLazyResolutionProxyIfNecessary(DependencyDescriptor descriptor, @Nullable String beanName) {
+            Object proxy = delegate.getLazyResolutionProxyIfNecessary(descriptor, beanName);
+            if (proxy == null && lazyTypes.contains(descriptor.getDependencyType())) {
+                proxy = lazyProxies.getLazyResolutionProxyIfNecessary(descriptor, beanName);
+            }
+            return proxy;
+        }
+
+        @Override
+        @Nullable
+        public Class<?> getLazyResolutionProxyClass(DependencyDescriptor descriptor, @Nullable String beanName) {
+            Class<?> proxyClass = delegate.getLazyResolutionProxyClass(descriptor, beanName);
+            if (proxyClass == null && lazyTypes.contains(descriptor.getDependencyType())) {
+                proxyClass = lazyProxies.getLazyResolutionProxyClass(descriptor, beanName);
+            }
+            return proxyClass;
+        }
+
+        // 다른 bean factory 로 설정을 복사할 때는 lazy 타입 없이 기존 resolver 만 넘깁니다.
+        @Override
+        public AutowireCandidateResolver cloneIfNecessary() {
+            return delegate.cloneIfNecessary();
+        }
+    }
+}
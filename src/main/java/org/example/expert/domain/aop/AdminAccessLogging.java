@@ -1,21 +1,24 @@
 package org.example.expert.domain.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.domain.audit.service.AdminAuditLogService;
+import org.example.expert.domain.audit.service.AdminAuditOutcome;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.time.LocalDateTime;
-
-@Slf4j(topic = "Admin Access Log")
 @Component
 @Aspect
+@RequiredArgsConstructor
 public class AdminAccessLogging {
+
+    private final AdminAuditLogService adminAuditLogService;
+
     @Pointcut("execution(* org.example.expert.domain..*AdminController.*(..))")
     public void adminControllerMethods() {}
 
@@ -25,20 +28,21 @@ public class AdminAccessLogging {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         HttpServletRequest request = (attributes != null) ? attributes.getRequest() : null;
 
-        if (request != null) {
-            // 사용자 ID, 요청 시간, URL 정보 가져오기
-            Long userId = (Long) request.getAttribute("userId");// 필터나 세션에서 설정된 userId
-            String requestTimestamp = LocalDateTime.now().toString();
-            String requestUrl = request.getRequestURL().toString();
-
-            // 로그 기록
-            log.info("User ID: " + userId);
-            log.info("Request Time: " + requestTimestamp);
-            log.info("Request URL: " + requestUrl);
+        if (request == null) {
+            return joinPoint.proceed();
         }
 
-        // 원래 메서드 실행
-        Object result = joinPoint.proceed();
-        return result;
+        // 요청 시각과 처리 결과를 감사 로그 버퍼에 넣고, 파일 기록은 writer 스레드가 모아서 합니다.
+        long requestedAt = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        AdminAuditOutcome outcome = AdminAuditOutcome.FAILURE;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = AdminAuditOutcome.SUCCESS;
+            return result;
+        } finally {
+            adminAuditLogService.record((Long) request.getAttribute("userId"), requestedAt,
+                    request.getMethod(), request.getRequestURI(), outcome, System.nanoTime() - startNanos);
+        }
     }
 }
@@ -0,0 +1,42 @@
+package org.example.expert.domain.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.config.datasource.ReadYourWritesTracker;
+import org.example.expert.domain.common.annotation.HotTodoCacheable;
+import org.example.expert.domain.todo.service.HotTodoCache;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @HotTodoCacheable 조회를 HotTodoCache 로 감쌉니다.
+ * 캐시에서 바로 돌려주면 single-flight 나 트랜잭션을 거칠 필요가 없으므로 그보다 바깥에 둡니다.
+ * 최근에 쓰기를 commit 해서 primary 에 묶인 사용자는 replica 에서 읽어 채운 캐시를 보지 않도록 캐시를 건너뜁니다.
+ */
+@Component
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class HotTodoCaching {
+
+    private final HotTodoCache hotTodoCache;
+    private final ReadYourWritesTracker readYourWrites;
+
+    @Pointcut("@annotation(org.example.expert.domain.common.annotation.HotTodoCacheable)")
+    public void hotTodoCacheableMethods() {}
+
+    @Around("hotTodoCacheableMethods()")
+    public Object cache(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (readYourWrites.isCurrentUserPinned()) {
+            return joinPoint.proceed();
+        }
+        HotTodoCacheable cacheable = ((MethodSignature) joinPoint.getSignature()).getMethod().getAnnotation(HotTodoCacheable.class);
+        long todoId = (Long) joinPoint.getArgs()[0];
+        return hotTodoCache.get(todoId, cacheable.value(), joinPoint::proceed);
+    }
+}
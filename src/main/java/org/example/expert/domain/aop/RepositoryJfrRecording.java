@@ -0,0 +1,114 @@
+package org.example.expert.domain.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.config.jfr.RepositoryCallEvent;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * repository 호출마다 JFR RepositoryCallEvent 를 남깁니다.
+ * 녹화 중이 아니면 이벤트 활성 여부만 확인하고 바로 호출합니다.
+ */
+@Component
+@Aspect
+public class RepositoryJfrRecording {
+
+    // save, findById 처럼 JpaRepository 에서 물려받은 메서드는 Method 가 같으므로 repository 타입과 함께 키로 씁니다.
+    private final Map<CallSite, CallDescription> descriptions = new ConcurrentHashMap<>();
+
+    @Pointcut("execution(* org.example.expert.domain..repository.*Repository+.*(..))")
+    public void repositoryMethods() {}
+
+    @Around("repositoryMethods()")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                CallSite callSite = new CallSite(
+                        joinPoint.getTarget().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod());
+                CallDescription description = descriptions.computeIfAbsent(callSite, RepositoryJfrRecording::describe);
+                event.method = description.method();
+                event.jpql = description.jpql();
+                event.rowCount = rowCount(result, description.modifying());
+                event.commit();
+            }
+        }
+    }
+
+    private static CallDescription describe(CallSite callSite) {
+        Method method = callSite.method();
+        Class<?> repositoryType = method.getDeclaringClass();
+        // JpaRepository 에서 물려받은 메서드는 실제 repository 인터페이스 이름으로 남깁니다.
+        for (Class<?> type : callSite.targetType().getInterfaces()) {
+            if (repositoryType.isAssignableFrom(type) && type.getSimpleName().endsWith("Repository")) {
+                repositoryType = type;
+                break;
+            }
+        }
+        Query query = method.getAnnotation(Query.class);
+        // 변경 쿼리(@Modifying, deleteBy)의 숫자 반환값은 영향받은 row 수이고, 그 외(countBy 등)는 조회한 값입니다.
+        boolean modifying = method.isAnnotationPresent(Modifying.class) || method.getName().startsWith("deleteBy");
+        return new CallDescription(repositoryType.getSimpleName() + "." + method.getName(), query == null ? null : query.value(), modifying);
+    }
+
+    private record CallSite(Class<?> targetType, Method method) {
+    }
+
+    private record CallDescription(String method, String jpql, boolean modifying) {
+    }
+
+    /**
+     * 조회 결과는 가져온 row 수, 변경 쿼리(int/long, int[])는 영향받은 row 수, 단건 엔티티는 1 로 봅니다.
+     * count 쿼리처럼 숫자 하나를 조회한 경우는 값이 아니라 row 1 개로 셉니다.
+     */
+    static long rowCount(Object result, boolean modifying) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number number) {
+            return modifying ? number.longValue() : 1;
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        if (result instanceof Boolean) {
+            return 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.expert.domain.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.config.datasource.ReadYourWritesTracker;
+import org.example.expert.domain.common.annotation.SingleFlight;
+import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @SingleFlight 조회를 (endpoint, 인자) 별로 묶어서, 이미 실행 중인 같은 조회가 있으면 새로 실행하지 않고 그 결과를 기다립니다.
+ * 실행이 끝나면 바로 지우므로 결과를 캐시하지는 않습니다. (끝난 뒤에 들어온 요청은 다시 DB 를 조회)
+ * 요청한 사용자가 실행 중인 조회가 시작된 뒤에 쓰기를 commit 했으면, 그 조회는 쓰기 전 데이터를 볼 수 있으므로 합류하지 않고 새로 실행합니다.
+ * 실행한 쪽이 예외로 끝나면 기다리던 요청은 각자 다시 실행해서 자기 예외를 받습니다.
+ * 트랜잭션보다 바깥에서 동작해야 기다리는 요청이 커넥션을 잡지 않으므로 HotTodoCaching 바로 다음에 실행되도록 둡니다.
+ */
+@Component
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SingleFlightCoalescing {
+
+    private final Map<FlightKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, String> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final ReadYourWritesTracker readYourWrites;
+    private final boolean enabled;
+    private final long waitTimeoutMillis;
+
+    public SingleFlightCoalescing(
+            MeterRegistry meterRegistry,
+            ReadYourWritesTracker readYourWrites,
+            @Value("${single-flight.enabled:true}") boolean enabled,
+            @Value("${single-flight.wait-timeout-ms:5000}") long waitTimeoutMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.readYourWrites = readYourWrites;
+        this.enabled = enabled;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    @Pointcut("@annotation(org.example.expert.domain.common.annotation.SingleFlight)")
+    public void singleFlightMethods() {}
+
+    @Around("singleFlightMethods()")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        // primary 에 묶인 사용자는 다른 사용자가 replica 에서 읽은 결과를 받으면 안 되므로 합류하지 않습니다.
+        if (!enabled || readYourWrites.isCurrentUserPinned()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String endpoint = endpoints.computeIfAbsent(method, m -> m.getAnnotation(SingleFlight.class).value());
+        // [0] = 직접 실행, [1] = 다른 요청의 결과를 받음
+        Counter[] calls = counters.computeIfAbsent(endpoint, this::registerCounters);
+        FlightKey key = new FlightKey(endpoint, Arrays.asList(joinPoint.getArgs()));
+        long lastWrite = readYourWrites.lastWriteSequence(ReadYourWritesTracker.currentUserId());
+
+        while (true) {
+            Flight flight = new Flight(readYourWrites.currentSequence());
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                return lead(joinPoint, calls, key, flight);
+            }
+            if (existing.startedAfter < lastWrite) {
+                // 내 쓰기 전에 시작한 조회이므로 새로 실행하고, 뒤에 오는 요청은 새 조회에 합류시킵니다.
+                if (inFlight.replace(key, existing, flight)) {
+                    return lead(joinPoint, calls, key, flight);
+                }
+                continue;
+            }
+            return follow(joinPoint, calls, existing);
+        }
+    }
+
+    private Object lead(ProceedingJoinPoint joinPoint, Counter[] calls, FlightKey key, Flight flight) throws Throwable {
+        calls[0].increment();
+        try {
+            Object result = joinPoint.proceed();
+            // 결과를 넘기기 전에 지워야, 완료 뒤에 들어온 요청이 끝난 결과를 받지 않습니다.
+            inFlight.remove(key, flight);
+            flight.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            inFlight.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object follow(ProceedingJoinPoint joinPoint, Counter[] calls, Flight existing) throws Throwable {
+        calls[1].increment();
+        try {
+            return existing.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException(ErrorCode.SINGLE_FLIGHT_INTERRUPTED);
+        } catch (ExecutionException | TimeoutException e) {
+            // 예외 인스턴스를 여러 요청이 나눠 갖지 않도록, 실패했거나 오래 걸리면 직접 실행합니다.
+            calls[0].increment();
+            return joinPoint.proceed();
+        }
+    }
+
+    private Counter[] registerCounters(String endpoint) {
+        return new Counter[]{counter(endpoint, "executed"), counter(endpoint, "coalesced")};
+    }
+
+    private Counter counter(String endpoint, String result) {
+        return Counter.builder("single.flight.calls")
+                .description("Coalesced read calls; coalescing ratio = coalesced / (executed + coalesced)")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record FlightKey(String endpoint, List<Object> args) {
+    }
+
+    private static final class Flight {
+
+        // 조회를 시작할 때까지 commit 된 쓰기 순번
+        private final long startedAfter;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Flight(long startedAfter) {
+            this.startedAfter = startedAfter;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogScanResponse;
+import org.example.expert.domain.audit.service.AdminAuditLogService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+public class AuditAdminController {
+
+    private final AdminAuditLogService adminAuditLogService;
+
+    // from/to 를 생략하면 최근 1시간
+    @GetMapping("/admin/audit-logs")
+    public ResponseEntity<AdminAuditLogScanResponse> getAuditLogs(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "limit", defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(adminAuditLogService.scan(from, to, limit));
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AdminAuditLogResponse {
+
+    private final LocalDateTime requestedAt;
+    private final Long userId;
+    private final String method;
+    private final String url;
+    private final String outcome;
+    private final double durationMillis;
+
+    public AdminAuditLogResponse(LocalDateTime requestedAt, Long userId, String method, String url, String outcome,
+                                 double durationMillis) {
+        this.requestedAt = requestedAt;
+        this.userId = userId;
+        this.method = method;
+        this.url = url;
+        this.outcome = outcome;
+        this.durationMillis = durationMillis;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class AdminAuditLogScanResponse {
+
+    private final List<AdminAuditLogResponse> entries; // 오래된 순
+    private final boolean hasMore;                     // limit 을 넘는 기록이 더 있으면 true (마지막 requestedAt 부터 다시 조회)
+
+    public AdminAuditLogScanResponse(List<AdminAuditLogResponse> entries, boolean hasMore) {
+        this.entries = entries;
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.expert.domain.audit.service;
+
+import java.util.Arrays;
+
+/**
+ * writer 스레드가 링 버퍼에서 꺼낸 기록을 파일에 쓰기 전까지 담아 두는 재사용 배열.
+ */
+class AdminAuditBatch {
+
+    private final long[] userIds;
+    private final long[] epochMillis;
+    private final long[] durationNanos;
+    private final byte[] methods;
+    private final byte[] outcomes;
+    private final String[] urls;
+    private final int[] order;
+    private int size;
+
+    AdminAuditBatch(int capacity) {
+        this.userIds = new long[capacity];
+        this.epochMillis = new long[capacity];
+        this.durationNanos = new long[capacity];
+        this.methods = new byte[capacity];
+        this.outcomes = new byte[capacity];
+        this.urls = new String[capacity];
+        this.order = new int[capacity];
+    }
+
+    void add(long userId, long epochMilli, byte method, String url, byte outcome, long duration) {
+        userIds[size] = userId;
+        epochMillis[size] = epochMilli;
+        durationNanos[size] = duration;
+        methods[size] = method;
+        outcomes[size] = outcome;
+        urls[size] = url;
+        order[size] = size;
+        size++;
+    }
+
+    void clear() {
+        Arrays.fill(urls, 0, size, null);
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return userIds.length;
+    }
+
+    /**
+     * 요청 시각 순으로 정렬합니다. 생산자 순서와 시각 순서가 거의 같으므로 삽입 정렬로 충분합니다.
+     * 정렬 후에는 i 번째 기록을 order(i) 로 읽습니다.
+     */
+    void sortByTime() {
+        for (int i = 1; i < size; i++) {
+            int current = order[i];
+            long time = epochMillis[current];
+            int j = i - 1;
+            while (j >= 0 && epochMillis[order[j]] > time) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    int order(int i) {
+        return order[i];
+    }
+
+    long userId(int index) {
+        return userIds[index];
+    }
+
+    long epochMilli(int index) {
+        return epochMillis[index];
+    }
+
+    long durationNanos(int index) {
+        return durationNanos[index];
+    }
+
+    byte method(int index) {
+        return methods[index];
+    }
+
+    byte outcome(int index) {
+        return outcomes[index];
+    }
+
+    String url(int index) {
+        return urls[index];
+    }
+}
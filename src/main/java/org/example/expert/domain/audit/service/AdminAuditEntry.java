@@ -0,0 +1,8 @@
+package org.example.expert.domain.audit.service;
+
+/**
+ * 감사 로그 파일에서 읽은 기록 하나.
+ */
+record AdminAuditEntry(long epochMilli, Long userId, String method, String url, AdminAuditOutcome outcome,
+                       long durationNanos) {
+}
@@ -0,0 +1,359 @@
+package org.example.expert.domain.audit.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 관리자 감사 기록을 쌓는 append-only 바이너리 파일. 고정 크기 segment 파일을 memory-map 해서 쓰고,
+ * 가득 차면 다음 segment 로 넘어가며 maxSegments 개를 넘는 오래된 segment 는 지웁니다.
+ *
+ * <pre>
+ * segment = header(16) + record*
+ * header  = magic(int) version(int) reserved(long)
+ * record  = length(int) epochMilli(long) userId(long) durationNanos(long) method(byte) outcome(byte)
+ *           urlLength(short) url(UTF-8)
+ * </pre>
+ *
+ * 쓰기는 writer 스레드 하나만 하고, 기록의 length 를 마지막에 써서 중간에 멈춰도 반쯤 쓴 기록은 읽히지 않습니다.
+ * 기록은 시각 순으로 쌓이므로(앞 기록보다 이른 시각은 앞 기록 시각으로 맞춤) 약 indexInterval 바이트마다
+ * (시각, offset) 을 남긴 sparse index 를 이분 탐색해 조회 시작 위치를 찾습니다.
+ */
+class AdminAuditLogFile implements Closeable {
+
+    static final int MAGIC = 0x45584155; // "EXAU"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int FIXED_RECORD_SIZE = 4 + 8 + 8 + 8 + 1 + 1 + 2;
+    static final int MAX_URL_BYTES = 2048;
+    static final long NO_USER = -1;
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int indexInterval;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    private Segment active;
+    private long lastEpochMilli;
+
+    AdminAuditLogFile(Path directory, int segmentSize, int maxSegments, int indexInterval) throws IOException {
+        if (segmentSize < HEADER_SIZE + FIXED_RECORD_SIZE + MAX_URL_BYTES) {
+            throw new IllegalArgumentException("segmentSize 가 너무 작습니다: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.indexInterval = indexInterval;
+
+        Files.createDirectories(directory);
+        // 같은 디렉터리를 두 프로세스가 동시에 쓰면 파일이 깨지므로 막습니다.
+        this.lockChannel = FileChannel.open(directory.resolve("audit.lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.lock = lockChannel.tryLock();
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("감사 로그 디렉터리를 다른 프로세스가 사용 중입니다: " + directory);
+        }
+
+        for (Path path : existingSegments()) {
+            segments.add(Segment.recover(path, sequenceOf(path), indexInterval));
+        }
+        if (segments.isEmpty()) {
+            active = createSegment(1);
+        } else {
+            active = segments.get(segments.size() - 1);
+            lastEpochMilli = active.lastEpochMilli;
+        }
+    }
+
+    /**
+     * batch 의 기록을 시각 순으로 이어 씁니다. (writer 스레드 전용)
+     */
+    void append(AdminAuditBatch batch) throws IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            int index = batch.order(i);
+            byte[] url = urlBytes(batch.url(index));
+            int length = FIXED_RECORD_SIZE + url.length;
+            if (active.position + length > active.capacity()) {
+                rotate();
+            }
+            long epochMilli = Math.max(batch.epochMilli(index), lastEpochMilli);
+            active.write(epochMilli, batch.userId(index), batch.durationNanos(index),
+                    batch.method(index), batch.outcome(index), url);
+            lastEpochMilli = epochMilli;
+        }
+        active.publish();
+    }
+
+    void force() {
+        active.buffer.force();
+    }
+
+    /**
+     * [fromEpochMilli, toEpochMilli] 구간의 기록을 오래된 순으로 최대 limit + 1 개 읽습니다.
+     * (limit 개를 넘는 기록이 더 있는지 호출하는 쪽에서 알 수 있도록 하나 더 읽습니다.)
+     */
+    List<AdminAuditEntry> scan(long fromEpochMilli, long toEpochMilli, int limit) {
+        List<AdminAuditEntry> entries = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (entries.size() > limit) {
+                break;
+            }
+            if (segment.isEmpty() || segment.lastEpochMilli < fromEpochMilli) {
+                continue;
+            }
+            if (segment.firstEpochMilli > toEpochMilli) {
+                break;
+            }
+            if (!segment.scan(fromEpochMilli, toEpochMilli, limit + 1, entries)) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            lock.release();
+            lockChannel.close();
+        }
+    }
+
+    private void rotate() throws IOException {
+        active.buffer.force();
+        active = createSegment(active.sequence + 1);
+        while (segments.size() > maxSegments) {
+            Segment oldest = segments.remove(0);
+            // 조회 중인 요청은 이미 map 한 버퍼로 계속 읽을 수 있습니다.
+            Files.deleteIfExists(oldest.path);
+        }
+    }
+
+    private Segment createSegment(long sequence) throws IOException {
+        Path path = directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        Segment segment = new Segment(path, sequence, buffer, HEADER_SIZE, indexInterval);
+        segments.add(segment);
+        return segment;
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(paths::add);
+        }
+        paths.sort(null); // 0 으로 채운 sequence 이므로 이름 순 = 생성 순
+        return paths;
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static byte[] urlBytes(String url) {
+        byte[] bytes = (url == null ? "" : url).getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= MAX_URL_BYTES ? bytes : Arrays.copyOf(bytes, MAX_URL_BYTES);
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final long sequence;
+        private final MappedByteBuffer buffer;
+        private final int indexInterval;
+
+        private int position;               // writer 가 다음에 쓸 위치
+        private volatile int limit;         // 읽어도 되는 끝 위치
+        private volatile SparseIndex index = SparseIndex.EMPTY;
+        private int lastIndexedPosition = -1;
+        private volatile long firstEpochMilli = Long.MAX_VALUE;
+        private volatile long lastEpochMilli = Long.MIN_VALUE;
+
+        private Segment(Path path, long sequence, MappedByteBuffer buffer, int position, int indexInterval) {
+            this.path = path;
+            this.sequence = sequence;
+            this.buffer = buffer;
+            this.position = position;
+            this.limit = position;
+            this.indexInterval = indexInterval;
+        }
+
+        /**
+         * 재시작 시 기존 segment 를 훑어 쓰던 위치와 sparse index 를 다시 만듭니다.
+         */
+        static Segment recover(Path path, long sequence, int indexInterval) throws IOException {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            }
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IllegalStateException("감사 로그 segment 형식이 올바르지 않습니다: " + path);
+            }
+            Segment segment = new Segment(path, sequence, buffer, HEADER_SIZE, indexInterval);
+            int position = HEADER_SIZE;
+            while (position + FIXED_RECORD_SIZE <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length < FIXED_RECORD_SIZE || position + length > buffer.capacity()) {
+                    break;
+                }
+                segment.indexed(position, buffer.getLong(position + 4));
+                position += length;
+            }
+            segment.position = position;
+            segment.publish();
+            return segment;
+        }
+
+        int capacity() {
+            return buffer.capacity();
+        }
+
+        boolean isEmpty() {
+            return limit == HEADER_SIZE;
+        }
+
+        void write(long epochMilli, long userId, long durationNanos, byte method, byte outcome, byte[] url) {
+            int start = position;
+            buffer.putLong(start + 4, epochMilli);
+            buffer.putLong(start + 12, userId);
+            buffer.putLong(start + 20, durationNanos);
+            buffer.put(start + 28, method);
+            buffer.put(start + 29, outcome);
+            buffer.putShort(start + 30, (short) url.length);
+            buffer.put(start + FIXED_RECORD_SIZE, url);
+            // length 를 마지막에 써서 기록을 완성합니다.
+            buffer.putInt(start, FIXED_RECORD_SIZE + url.length);
+            indexed(start, epochMilli);
+            position = start + FIXED_RECORD_SIZE + url.length;
+        }
+
+        void publish() {
+            limit = position;
+        }
+
+        private void indexed(int position, long epochMilli) {
+            if (firstEpochMilli == Long.MAX_VALUE) {
+                firstEpochMilli = epochMilli;
+            }
+            lastEpochMilli = epochMilli;
+            if (lastIndexedPosition < 0 || position - lastIndexedPosition >= indexInterval) {
+                index = index.append(epochMilli, position);
+                lastIndexedPosition = position;
+            }
+        }
+
+        /**
+         * @return 조회를 계속해야 하면 true (to 를 지났거나 max 개를 채우면 false)
+         */
+        boolean scan(long fromEpochMilli, long toEpochMilli, int max, List<AdminAuditEntry> entries) {
+            int end = limit;
+            int position = index.floorPosition(fromEpochMilli, HEADER_SIZE);
+            while (position < end) {
+                int length = buffer.getInt(position);
+                long epochMilli = buffer.getLong(position + 4);
+                if (epochMilli > toEpochMilli) {
+                    return false;
+                }
+                if (epochMilli >= fromEpochMilli) {
+                    entries.add(read(position, epochMilli));
+                    if (entries.size() >= max) {
+                        return false;
+                    }
+                }
+                position += length;
+            }
+            return true;
+        }
+
+        private AdminAuditEntry read(int position, long epochMilli) {
+            long userId = buffer.getLong(position + 12);
+            long durationNanos = buffer.getLong(position + 20);
+            byte method = buffer.get(position + 28);
+            byte outcome = buffer.get(position + 29);
+            byte[] url = new byte[buffer.getShort(position + 30)];
+            buffer.get(position + FIXED_RECORD_SIZE, url);
+            return new AdminAuditEntry(epochMilli, userId == NO_USER ? null : userId, AdminAuditMethods.decode(method),
+                    new String(url, StandardCharsets.UTF_8), AdminAuditOutcome.of(outcome), durationNanos);
+        }
+    }
+
+    /**
+     * (시각, offset) 목록. writer 는 배열 뒤에 덧붙이고 size 를 늘린 새 객체를 발행하므로,
+     * 조회하는 쪽은 자기가 읽은 객체의 size 까지만 봅니다.
+     */
+    private static final class SparseIndex {
+
+        static final SparseIndex EMPTY = new SparseIndex(new long[16], new int[16], 0);
+
+        private final long[] epochMillis;
+        private final int[] positions;
+        private final int size;
+
+        private SparseIndex(long[] epochMillis, int[] positions, int size) {
+            this.epochMillis = epochMillis;
+            this.positions = positions;
+            this.size = size;
+        }
+
+        SparseIndex append(long epochMilli, int position) {
+            long[] times = epochMillis;
+            int[] offsets = positions;
+            if (size == times.length || this == EMPTY) {
+                times = Arrays.copyOf(times, Math.max(16, size * 2));
+                offsets = Arrays.copyOf(offsets, times.length);
+            }
+            times[size] = epochMilli;
+            offsets[size] = position;
+            return new SparseIndex(times, offsets, size + 1);
+        }
+
+        /**
+         * fromEpochMilli 보다 이른 마지막 index 위치. 그 앞의 기록은 모두 fromEpochMilli 보다 이릅니다.
+         */
+        int floorPosition(long fromEpochMilli, int defaultPosition) {
+            int low = 0;
+            int high = size - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (epochMillis[mid] < fromEpochMilli) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found < 0 ? defaultPosition : positions[found];
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.BackgroundThreads;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogScanResponse;
+import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 API 감사 기록. 요청 스레드는 링 버퍼에 넣기만 하고,
+ * writer 스레드가 모아서 memory-mapped 감사 로그 파일에 씁니다.
+ */
+@Slf4j(topic = "Admin Access Log")
+@Service
+public class AdminAuditLogService {
+
+    private static final int MAX_SCAN_LIMIT = 1000;
+    private static final long DEFAULT_SCAN_HOURS = 1;
+
+    private final AdminAuditRingBuffer ringBuffer;
+    private final AdminAuditBatch batch;
+    private final AdminAuditLogFile logFile;
+    private final long flushIntervalNanos;
+    private final boolean forceOnFlush;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong writeFailures = new AtomicLong();
+    // 가상 스레드에서 파일을 쓰는 동안 carrier 스레드가 묶이지 않도록 synchronized 대신 씁니다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AdminAuditLogService(
+            @Value("${audit.log.dir:logs/audit}") String directory,
+            @Value("${audit.log.segment-size-bytes:16777216}") int segmentSizeBytes,
+            @Value("${audit.log.max-segments:8}") int maxSegments,
+            @Value("${audit.log.index-interval-bytes:4096}") int indexIntervalBytes,
+            @Value("${audit.log.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${audit.log.batch-size:512}") int batchSize,
+            @Value("${audit.log.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${audit.log.force-on-flush:false}") boolean forceOnFlush,
+            MeterRegistry meterRegistry
+    ) throws IOException {
+        this.ringBuffer = new AdminAuditRingBuffer(bufferCapacity);
+        this.batch = new AdminAuditBatch(batchSize);
+        this.logFile = new AdminAuditLogFile(Path.of(directory), segmentSizeBytes, maxSegments, indexIntervalBytes);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.forceOnFlush = forceOnFlush;
+
+        Gauge.builder("admin.audit.buffer.size", ringBuffer, AdminAuditRingBuffer::size)
+                .description("Audit records waiting to be written")
+                .register(meterRegistry);
+        FunctionCounter.builder("admin.audit.dropped", ringBuffer, AdminAuditRingBuffer::dropped)
+                .description("Audit records dropped because the buffer was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("admin.audit.written", written, AtomicLong::get)
+                .description("Audit records written to the audit log file")
+                .register(meterRegistry);
+        FunctionCounter.builder("admin.audit.write.failures", writeFailures, AtomicLong::get)
+                .description("Audit log batch writes that failed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = BackgroundThreads.start("admin-audit-writer", virtualThreads, this::writeLoop);
+    }
+
+    /**
+     * 요청 스레드에서 호출합니다. 버퍼가 가득 차 있으면 기록을 버리고 admin.audit.dropped 를 올립니다.
+     */
+    public void record(Long userId, long epochMilli, String method, String url, AdminAuditOutcome outcome, long durationNanos) {
+        ringBuffer.offer(userId == null ? AdminAuditLogFile.NO_USER : userId, epochMilli,
+                AdminAuditMethods.encode(method), url, outcome.code(), durationNanos);
+    }
+
+    public AdminAuditLogScanResponse scan(LocalDateTime from, LocalDateTime to, int limit) {
+        if (limit < 1 || limit > MAX_SCAN_LIMIT) {
+            throw new InvalidRequestException("limit 은 1 이상 " + MAX_SCAN_LIMIT + " 이하여야 합니다.");
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(DEFAULT_SCAN_HOURS);
+        if (start.isAfter(end)) {
+            throw new InvalidRequestException(ErrorCode.AUDIT_SCAN_RANGE_REVERSED);
+        }
+
+        List<AdminAuditEntry> entries = logFile.scan(toEpochMilli(start), toEpochMilli(end), limit);
+        boolean hasMore = entries.size() > limit;
+        List<AdminAuditLogResponse> responses = entries.stream()
+                .limit(limit)
+                .map(entry -> new AdminAuditLogResponse(
+                        toLocalDateTime(entry.epochMilli()),
+                        entry.userId(),
+                        entry.method(),
+                        entry.url(),
+                        entry.outcome().name(),
+                        entry.durationNanos() / 1_000_000.0
+                ))
+                .toList();
+        return new AdminAuditLogScanResponse(responses, hasMore);
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        while (flush() > 0) {
+            // writer 가 멈춘 뒤 남은 기록까지 쓰고 닫습니다.
+        }
+        logFile.close();
+    }
+
+    private void writeLoop() {
+        while (running) {
+            // 가득 찬 batch 를 썼으면 바로 다음 batch 를, 아니면 flush 간격만큼 모았다가 씁니다.
+            if (flush() < batch.capacity()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    int flush() {
+        flushLock.lock();
+        try {
+            int drained = ringBuffer.drainTo(batch);
+            if (drained == 0) {
+                return 0;
+            }
+            batch.sortByTime();
+            try {
+                logFile.append(batch);
+                if (forceOnFlush) {
+                    logFile.force();
+                }
+                written.addAndGet(drained);
+            } catch (IOException | RuntimeException e) {
+                writeFailures.incrementAndGet();
+                log.error("감사 로그 기록에 실패했습니다. ({}건 유실)", drained, e);
+            }
+            return drained;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.audit.service;
+
+/**
+ * HTTP 메서드를 감사 기록에 1 byte 로 담기 위한 변환.
+ */
+final class AdminAuditMethods {
+
+    private static final String[] METHODS = {"OTHER", "GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS"};
+
+    private AdminAuditMethods() {
+    }
+
+    static byte encode(String method) {
+        for (int i = 1; i < METHODS.length; i++) {
+            if (METHODS[i].equals(method)) {
+                return (byte) i;
+            }
+        }
+        return 0;
+    }
+
+    static String decode(byte code) {
+        return code > 0 && code < METHODS.length ? METHODS[code] : METHODS[0];
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.audit.service;
+
+public enum AdminAuditOutcome {
+    SUCCESS, // 컨트롤러 메서드가 정상 반환
+    FAILURE; // 예외 발생
+
+    private static final AdminAuditOutcome[] VALUES = values();
+
+    static AdminAuditOutcome of(byte code) {
+        return code >= 0 && code < VALUES.length ? VALUES[code] : FAILURE;
+    }
+
+    byte code() {
+        return (byte) ordinal();
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.domain.audit.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 요청 스레드(여러 생산자)가 감사 기록을 넣고 writer 스레드(소비자 하나)가 꺼내는 고정 크기 lock-free 링 버퍼.
+ * 슬롯마다 sequence 를 두어 생산자는 CAS 로 자리를 잡고, 다 쓴 뒤 sequence 를 올려 소비자에게 넘깁니다.
+ * 가득 차면 요청을 막지 않고 기록을 버립니다.
+ */
+class AdminAuditRingBuffer {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();  // 다음에 쓸 위치 (생산자)
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long head;                         // 다음에 읽을 위치 (소비자 스레드만 변경)
+
+    private final long[] userIds;
+    private final long[] epochMillis;
+    private final long[] durationNanos;
+    private final byte[] methods;
+    private final byte[] outcomes;
+    private final String[] urls;
+
+    AdminAuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.userIds = new long[capacity];
+        this.epochMillis = new long[capacity];
+        this.durationNanos = new long[capacity];
+        this.methods = new byte[capacity];
+        this.outcomes = new byte[capacity];
+        this.urls = new String[capacity];
+    }
+
+    /**
+     * @return 버퍼가 가득 차 버렸으면 false
+     */
+    boolean offer(long userId, long epochMilli, byte method, String url, byte outcome, long duration) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                // 소비자가 아직 한 바퀴 전 기록을 꺼내지 않았습니다.
+                dropped.incrementAndGet();
+                return false;
+            }
+            // sequence > position: 다른 생산자가 먼저 자리를 잡았으므로 다시 시도합니다.
+        }
+
+        userIds[index] = userId;
+        epochMillis[index] = epochMilli;
+        durationNanos[index] = duration;
+        methods[index] = method;
+        outcomes[index] = outcome;
+        urls[index] = url;
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 생산자가 다 쓴 기록을 최대 batch 크기만큼 batch 로 옮깁니다. 소비자 스레드에서만 호출합니다.
+     */
+    int drainTo(AdminAuditBatch batch) {
+        batch.clear();
+        while (batch.size() < batch.capacity()) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            batch.add(userIds[index], epochMillis[index], methods[index], urls[index], outcomes[index], durationNanos[index]);
+            urls[index] = null;
+            sequences.set(index, head + mask + 1);
+            head++;
+        }
+        return batch.size();
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+}
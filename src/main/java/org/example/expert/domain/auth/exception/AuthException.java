@@ -1,6 +1,13 @@
 package org.example.expert.domain.auth.exception;
 
-public class AuthException extends RuntimeException {
+import org.example.expert.domain.common.exception.BaseException;
+import org.example.expert.domain.common.exception.ErrorCode;
+
+public class AuthException extends BaseException {
+
+    public AuthException(ErrorCode errorCode) {
+        super(errorCode);
+    }
 
     public AuthException(String message) {
         super(message);
@@ -8,13 +8,20 @@ import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserEmailBloomFilter;
+import org.example.expert.domain.user.service.UserEmailPrefixIndex;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,18 +30,24 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserEmailPrefixIndex userEmailPrefixIndex;
+    private final UserEmailBloomFilter userEmailBloomFilter;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
         // email이 없으면 바로 예외를 던지고 함수 종료
         if (signupRequest.getEmail() == null || signupRequest.getEmail().isEmpty()) {
-            throw new InvalidRequestException("이메일이 비어있습니다.");
+            throw new InvalidRequestException(ErrorCode.EMPTY_EMAIL);
         }
 
         // email 중복 여부를 먼저 확인
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // bloom filter 가 없다고 답하면 exists 쿼리를 건너뛰고, 드문 동시 가입은 unique 제약조건으로 막습니다.
+        if (userEmailBloomFilter.mightContain(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException(ErrorCode.DUPLICATE_EMAIL);
+            }
+            userEmailBloomFilter.recordFalsePositive();
         }
 
         // password 인코딩은 중복 확인 후에 수행
@@ -46,24 +59,44 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new InvalidRequestException(ErrorCode.DUPLICATE_EMAIL);
+            }
+            throw e;
+        }
+        userEmailBloomFilter.put(savedUser.getEmail());
+        userEmailPrefixIndex.add(savedUser.getId(), savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
         return new SignupResponse(bearerToken);
     }
 
+    // 토큰에 담을 권한을 정하는 조회이므로 replica(복제 지연으로 이전 권한일 수 있음)가 아닌 primary 에서 읽습니다.
+    @Transactional
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+                () -> new InvalidRequestException(ErrorCode.UNREGISTERED_USER));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
-            throw new AuthException("잘못된 비밀번호입니다.");
+            throw new AuthException(ErrorCode.SIGNIN_WRONG_PASSWORD);
         }
 
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
     }
+
+    // email unique 제약조건 위반만 중복 이메일로 봅니다. (NOT NULL, 길이 초과 등은 그대로 던집니다)
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
+    }
 }
@@ -25,6 +25,9 @@ public class CommentController {
             @PathVariable("todoId") long todoId,
             @Valid @RequestBody CommentSaveRequest commentSaveRequest
     ) {
+        if (commentService.isGroupCommitEnabled()) {
+            return ResponseEntity.ok(commentService.saveCommentGroupCommit(authUser, todoId, commentSaveRequest));
+        }
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
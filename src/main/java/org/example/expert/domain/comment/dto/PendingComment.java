@@ -0,0 +1,41 @@
+package org.example.expert.domain.comment.dto;
+
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class PendingComment {
+
+    private static final int QUEUED = 0;
+    private static final int CLAIMED = 1;
+    private static final int CANCELLED = 2;
+
+    private final String contents;
+    private final long userId;
+    private final long todoId;
+    // group commit 이 끝나면 생성된 comment id 로 완료됩니다.
+    private final CompletableFuture<Long> ack = new CompletableFuture<>();
+    private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+    public PendingComment(String contents, long userId, long todoId) {
+        this.contents = contents;
+        this.userId = userId;
+        this.todoId = todoId;
+    }
+
+    /**
+     * writer 가 INSERT 직전에 호출합니다. 이미 취소된 댓글이면 false 를 반환하고 저장하지 않습니다.
+     */
+    public boolean claim() {
+        return state.compareAndSet(QUEUED, CLAIMED);
+    }
+
+    /**
+     * 아직 writer 가 가져가지 않았으면 취소합니다. true 면 이 댓글은 저장되지 않습니다.
+     */
+    public boolean cancel() {
+        return state.compareAndSet(QUEUED, CANCELLED);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.expert.domain.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.PendingComment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentBatchRepository {
+
+    // 한 INSERT 문에 들어가는 최대 row 수 (MySQL placeholder 제한 65535 를 넘지 않도록)
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+    private static final String INSERT_PREFIX =
+            "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 댓글을 multi-row INSERT 로 한 트랜잭션에 저장하고, 입력 순서대로 생성된 id 를 반환합니다.
+     */
+    @Transactional
+    public List<Long> insertAll(List<PendingComment> comments) {
+        List<Long> ids = new ArrayList<>(comments.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < comments.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<PendingComment> chunk = comments.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, comments.size()));
+            ids.addAll(insertChunk(chunk, now));
+        }
+        return ids;
+    }
+
+    private List<Long> insertChunk(List<PendingComment> chunk, Timestamp now) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + chunk.size() * (VALUES_ROW.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), new String[]{"id"});
+            int index = 1;
+            for (PendingComment comment : chunk) {
+                ps.setString(index++, comment.getContents());
+                ps.setLong(index++, comment.getUserId());
+                ps.setLong(index++, comment.getTodoId());
+                ps.setTimestamp(index++, now);
+                ps.setTimestamp(index++, now);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
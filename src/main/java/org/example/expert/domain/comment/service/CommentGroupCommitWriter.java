@@ -0,0 +1,238 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.BackgroundThreads;
+import org.example.expert.domain.comment.dto.PendingComment;
+import org.example.expert.domain.comment.repository.CommentBatchRepository;
+import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 댓글 write-behind 파이프라인.
+ * 요청 스레드는 검증이 끝난 댓글을 큐에 넣고, writer 스레드가 batchSize 개 또는 maxDelay 마다
+ * 모아서 한 트랜잭션으로 commit 한 뒤 각 요청의 ack 를 완료합니다.
+ * ack 를 기다리다 시간이 초과되면 아직 INSERT 전인 댓글은 취소하므로, 실패 응답을 받은 댓글이 나중에 저장되지는 않습니다.
+ */
+@Slf4j
+@Component
+public class CommentGroupCommitWriter {
+
+    private final CommentBatchRepository commentBatchRepository;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long ackTimeoutMillis;
+
+    // 큐 자체는 lock-free 이고, 용량 제한은 size 카운터로 겁니다.
+    private final ConcurrentLinkedQueue<PendingComment> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public CommentGroupCommitWriter(
+            CommentBatchRepository commentBatchRepository,
+            @Value("${comment.write-behind.enabled:false}") boolean enabled,
+            @Value("${comment.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${comment.write-behind.batch-size:500}") int batchSize,
+            @Value("${comment.write-behind.max-delay-ms:10}") long maxDelayMillis,
+            @Value("${comment.write-behind.ack-timeout-ms:2000}") long ackTimeoutMillis
+    ) {
+        this.commentBatchRepository = commentBatchRepository;
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.ackTimeoutMillis = ackTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = BackgroundThreads.start("comment-group-commit", virtualThreads, this::runLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        // 남아있는 댓글을 모두 commit 한 뒤 종료합니다.
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public PendingComment submit(String contents, long userId, long todoId) {
+        if (!running) {
+            throw new ServerException(ErrorCode.COMMENT_WRITE_BEHIND_STOPPED);
+        }
+        if (size.incrementAndGet() > queueCapacity) {
+            size.decrementAndGet();
+            throw new ServiceUnavailableException(ErrorCode.COMMENT_QUEUE_FULL);
+        }
+
+        PendingComment pendingComment = new PendingComment(contents, userId, todoId);
+        queue.offer(pendingComment);
+
+        // 대기 중인 writer 는 batch 가 찰 때만 깨웁니다. 나머지는 maxDelay 가 지나면 알아서 flush 됩니다.
+        int current = size.get();
+        if (current == 1 || current >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+        return pendingComment;
+    }
+
+    /**
+     * group commit 이 끝날 때까지 기다렸다가 생성된 comment id 를 반환합니다.
+     * 시간이 초과되거나 인터럽트됐을 때 아직 큐에 있으면 취소하고 실패시키고(다시 시도해도 중복되지 않음),
+     * writer 가 이미 INSERT 중이면 그 트랜잭션이 끝날 때까지(최대 ackTimeout 만큼 더) 기다려 결과를 돌려줍니다.
+     */
+    public Long await(PendingComment pendingComment) {
+        CompletableFuture<Long> ack = pendingComment.getAck();
+        try {
+            return ack.get(ackTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (pendingComment.cancel()) {
+                throw new ServiceUnavailableException(ErrorCode.COMMENT_ACK_TIMEOUT);
+            }
+            return awaitClaimed(ack, false);
+        } catch (InterruptedException e) {
+            if (pendingComment.cancel()) {
+                Thread.currentThread().interrupt();
+                throw new ServerException(ErrorCode.COMMENT_ACK_INTERRUPTED);
+            }
+            return awaitClaimed(ack, true);
+        } catch (ExecutionException e) {
+            throw saveFailure(e);
+        }
+    }
+
+    // 이미 INSERT 중인 댓글은 실패로 돌려보내면 저장된 뒤 재시도로 중복되므로, 인터럽트되어도 결과를 기다립니다.
+    private Long awaitClaimed(CompletableFuture<Long> ack, boolean interrupted) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ackTimeoutMillis);
+        try {
+            while (true) {
+                try {
+                    return ack.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (TimeoutException e) {
+                    throw new ServerException(ErrorCode.COMMENT_SAVE_UNCONFIRMED);
+                } catch (ExecutionException e) {
+                    throw saveFailure(e);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static RuntimeException saveFailure(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new ServerException(ErrorCode.COMMENT_SAVE_FAILED);
+    }
+
+    private void runLoop() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || size.get() > 0) {
+            PendingComment first = queue.poll();
+            if (first == null) {
+                LockSupport.parkNanos(this, maxDelayNanos);
+                continue;
+            }
+            batch.add(first);
+
+            // 첫 댓글이 들어온 시점부터 maxDelay 안에서 batchSize 만큼 모읍니다.
+            long deadline = System.nanoTime() + maxDelayNanos;
+            while (batch.size() < batchSize) {
+                PendingComment next = queue.poll();
+                if (next != null) {
+                    batch.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    void flush(List<PendingComment> batch) {
+        size.addAndGet(-batch.size());
+        // 기다리다 취소된 댓글은 저장하지 않습니다.
+        List<PendingComment> claimed = new ArrayList<>(batch.size());
+        for (PendingComment pendingComment : batch) {
+            if (pendingComment.claim()) {
+                claimed.add(pendingComment);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        try {
+            complete(claimed, commentBatchRepository.insertAll(claimed));
+        } catch (RuntimeException e) {
+            log.error("댓글 group commit 실패, 한 건씩 다시 저장합니다. batch size: {}", claimed.size(), e);
+            if (claimed.size() == 1) {
+                fail(claimed.get(0));
+                return;
+            }
+            // 문제가 있는 댓글 하나 때문에 나머지까지 실패하지 않도록 한 건씩 저장합니다.
+            for (PendingComment pendingComment : claimed) {
+                try {
+                    complete(List.of(pendingComment), commentBatchRepository.insertAll(List.of(pendingComment)));
+                } catch (RuntimeException rowFailure) {
+                    log.warn("댓글 저장 실패 userId: {}, todoId: {}", pendingComment.getUserId(), pendingComment.getTodoId(), rowFailure);
+                    fail(pendingComment);
+                }
+            }
+        }
+    }
+
+    private void complete(List<PendingComment> comments, List<Long> ids) {
+        for (int i = 0; i < comments.size(); i++) {
+            comments.get(i).getAck().complete(ids.get(i));
+        }
+    }
+
+    private void fail(PendingComment pendingComment) {
+        pendingComment.getAck().completeExceptionally(new ServerException(ErrorCode.COMMENT_SAVE_FAILED));
+    }
+}
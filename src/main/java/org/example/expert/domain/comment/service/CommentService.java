@@ -1,20 +1,27 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.PendingComment;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.annotation.HotTodoCacheable;
+import org.example.expert.domain.common.annotation.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.HotTodoView;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.HotTodoCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -28,23 +35,13 @@ public class CommentService {
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
     private final ManagerRepository managerRepository;
+    private final CommentGroupCommitWriter commentGroupCommitWriter;
+    private final HotTodoCache hotTodoCache;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
-
-        // 매니저 리스트에서 현재 사용자가 매니저로 등록되어 있는지 확인
-        List<Manager> managers = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        // 현재 사용자가 매니저 리스트에 포함되지 않으면 예외 발생
-        boolean isManager = managers.stream()
-                .anyMatch(manager -> manager.getUser().getId().equals(user.getId()));
-
-        if (!isManager) {
-            throw new InvalidRequestException("You are not authorized to comment on this todo");
-        }
+        Todo todo = findCommentableTodo(user, todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -53,6 +50,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        hotTodoCache.invalidate(todoId);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -62,6 +60,29 @@ public class CommentService {
     }
 
 
+    public boolean isGroupCommitEnabled() {
+        return commentGroupCommitWriter.isEnabled();
+    }
+
+    // 검증 후 write-behind 큐에 넣고 group commit 을 기다립니다. 대기 중에 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommentSaveResponse saveCommentGroupCommit(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        Todo todo = findCommentableTodo(user, todoId);
+
+        PendingComment pendingComment = commentGroupCommitWriter.submit(commentSaveRequest.getContents(), user.getId(), todo.getId());
+        Long commentId = commentGroupCommitWriter.await(pendingComment);
+        hotTodoCache.invalidate(todoId);
+
+        return new CommentSaveResponse(
+                commentId,
+                commentSaveRequest.getContents(),
+                new UserResponse(user.getId(), user.getEmail())
+        );
+    }
+
+    @HotTodoCacheable(HotTodoView.COMMENTS)
+    @SingleFlight("GET /todos/{todoId}/comments")
     public List<CommentResponse> getComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
 
@@ -77,4 +98,21 @@ public class CommentService {
         }
         return dtoList;
     }
+
+    private Todo findCommentableTodo(User user, long todoId) {
+        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
+                new InvalidRequestException(ErrorCode.TODO_NOT_FOUND));
+
+        // 매니저 리스트에서 현재 사용자가 매니저로 등록되어 있는지 확인
+        List<Manager> managers = managerRepository.findByTodoIdWithUser(todo.getId());
+
+        // 현재 사용자가 매니저 리스트에 포함되지 않으면 예외 발생
+        boolean isManager = managers.stream()
+                .anyMatch(manager -> manager.getUser().getId().equals(user.getId()));
+
+        if (!isManager) {
+            throw new InvalidRequestException(ErrorCode.COMMENT_NOT_ALLOWED);
+        }
+        return todo;
+    }
 }
@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.annotation;
+
+import org.example.expert.domain.todo.enums.HotTodoView;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 첫 번째 인자(todoId)의 조회 횟수를 세고, 많이 조회되는(hot) todo 면 결과를 짧게 캐시합니다. (HotTodoCaching)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HotTodoCacheable {
+
+    HotTodoView value();
+}
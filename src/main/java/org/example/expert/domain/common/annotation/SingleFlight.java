@@ -0,0 +1,20 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 조회를 한 번만 실행하고 결과를 나눠 받습니다. (SingleFlightCoalescing)
+ * 결과를 공유하므로 반환값을 호출한 쪽에서 바꾸지 않는 조회 메서드에만 붙입니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * 지표(single.flight.calls)의 endpoint 태그
+     */
+    String value();
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 도메인 예외의 공통 부모. 검증 실패처럼 자주 던지는 예외라 stack trace 를 채우지 않습니다.
+ * 예외는 Spring 컨텍스트 밖(서비스 코드 곳곳)에서 만들어지므로, 디버깅할 때는 JVM 옵션
+ * -Dexception.stack-trace.enabled=true 로만 켭니다. (JVM 전체에 한 번 정해지고, 컨텍스트 설정으로 바뀌지 않음)
+ */
+@Getter
+public abstract class BaseException extends RuntimeException {
+
+    private static final boolean STACK_TRACE_ENABLED = Boolean.getBoolean("exception.stack-trace.enabled");
+
+    private final ErrorCode errorCode; // 메시지가 고정된 오류만, 그 외에는 null
+
+    protected BaseException(ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, STACK_TRACE_ENABLED);
+        this.errorCode = errorCode;
+    }
+
+    protected BaseException(String message) {
+        super(message, null, false, STACK_TRACE_ENABLED);
+        this.errorCode = null;
+    }
+}
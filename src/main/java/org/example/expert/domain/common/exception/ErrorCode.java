@@ -0,0 +1,60 @@
+package org.example.expert.domain.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 고정 메시지 오류 목록. 응답 본문은 GlobalExceptionHandler 가 미리 JSON 으로 만들어 둡니다.
+ * status 는 해당 오류를 던지는 예외 타입의 status 와 같게 둡니다.
+ * (InvalidRequestException: 400, AuthException: 401, ServerException: 500, ServiceUnavailableException: 503)
+ */
+@Getter
+public enum ErrorCode {
+
+    // InvalidRequestException
+    TODO_NOT_FOUND(HttpStatus.BAD_REQUEST, "Todo not found"),
+    USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "User not found"),
+    MANAGER_NOT_FOUND(HttpStatus.BAD_REQUEST, "Manager not found"),
+    INVALID_USER_ROLE(HttpStatus.BAD_REQUEST, "유효하지 않은 UerRole"),
+    EMPTY_EMAIL(HttpStatus.BAD_REQUEST, "이메일이 비어있습니다."),
+    DUPLICATE_EMAIL(HttpStatus.BAD_REQUEST, "이미 존재하는 이메일입니다."),
+    UNREGISTERED_USER(HttpStatus.BAD_REQUEST, "가입되지 않은 유저입니다."),
+    EMPTY_EMAIL_PREFIX(HttpStatus.BAD_REQUEST, "검색할 이메일 prefix 가 비어있습니다."),
+    WRONG_PASSWORD(HttpStatus.BAD_REQUEST, "잘못된 비밀번호입니다."),
+    SAME_PASSWORD(HttpStatus.BAD_REQUEST, "새 비밀번호는 기존 비밀번호와 같을 수 없습니다."),
+    INVALID_NEW_PASSWORD(HttpStatus.BAD_REQUEST, "새 비밀번호는 8자 이상이어야 하고, 숫자와 대문자를 포함해야 합니다."),
+    ROLE_CHANGE_TARGET_CONFLICT(HttpStatus.BAD_REQUEST, "userIds 와 emailDomain 중 하나만 지정해야 합니다."),
+    INVALID_TODO_OWNER_FOR_MANAGER(HttpStatus.BAD_REQUEST, "담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다."),
+    MANAGER_USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "등록하려고 하는 담당자 유저가 존재하지 않습니다."),
+    SELF_MANAGER_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "일정 작성자는 본인을 담당자로 등록할 수 없습니다."),
+    INVALID_TODO_OWNER(HttpStatus.BAD_REQUEST, "해당 일정을 만든 유저가 유효하지 않습니다."),
+    NOT_TODO_MANAGER(HttpStatus.BAD_REQUEST, "해당 일정에 등록된 담당자가 아닙니다."),
+    COMMENT_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "You are not authorized to comment on this todo"),
+    AUDIT_SCAN_RANGE_REVERSED(HttpStatus.BAD_REQUEST, "from 은 to 보다 늦을 수 없습니다."),
+
+    // AuthException
+    SIGNIN_WRONG_PASSWORD(HttpStatus.UNAUTHORIZED, "잘못된 비밀번호입니다."),
+    AUTH_USER_TYPE_MISMATCH(HttpStatus.UNAUTHORIZED, "@Auth와 AuthUser 타입은 함께 사용되어야 합니다."),
+
+    // ServerException
+    TOKEN_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "Not Found Token"),
+    WEATHER_EMPTY(HttpStatus.INTERNAL_SERVER_ERROR, "날씨 데이터가 없습니다."),
+    WEATHER_TODAY_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "오늘에 해당하는 날씨 데이터를 찾을 수 없습니다."),
+    COMMENT_WRITE_BEHIND_STOPPED(HttpStatus.INTERNAL_SERVER_ERROR, "댓글 write-behind 모드가 동작 중이 아닙니다."),
+    COMMENT_ACK_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "댓글 저장 대기 중 인터럽트가 발생했습니다."),
+    COMMENT_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "댓글 저장에 실패했습니다."),
+    COMMENT_SAVE_UNCONFIRMED(HttpStatus.INTERNAL_SERVER_ERROR, "댓글 저장 결과를 확인하지 못했습니다. 댓글 목록을 확인한 뒤 다시 시도해주세요."),
+    SINGLE_FLIGHT_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "조회 결과를 기다리는 중 인터럽트가 발생했습니다."),
+
+    // ServiceUnavailableException
+    COMMENT_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "댓글 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    COMMENT_ACK_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "댓글 저장이 지연되어 취소되었습니다. 다시 시도해주세요.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+}
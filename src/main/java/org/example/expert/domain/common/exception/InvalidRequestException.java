@@ -1,6 +1,11 @@
 package org.example.expert.domain.common.exception;
 
-public class InvalidRequestException extends RuntimeException {
+public class InvalidRequestException extends BaseException {
+
+    public InvalidRequestException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
     public InvalidRequestException(String message) {
         super(message);
     }
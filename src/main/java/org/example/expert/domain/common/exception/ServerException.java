@@ -1,6 +1,10 @@
 package org.example.expert.domain.common.exception;
 
-public class ServerException extends RuntimeException {
+public class ServerException extends BaseException {
+
+    public ServerException(ErrorCode errorCode) {
+        super(errorCode);
+    }
 
     public ServerException(String message) {
         super(message);
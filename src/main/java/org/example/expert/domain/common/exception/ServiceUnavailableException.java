@@ -0,0 +1,11 @@
+package org.example.expert.domain.common.exception;
+
+/**
+ * 부하를 줄이려고 거절했거나 처리하지 않고 취소한 요청. 저장된 것이 없으므로 잠시 뒤 다시 시도해도 됩니다. (503 + Retry-After)
+ */
+public class ServiceUnavailableException extends BaseException {
+
+    public ServiceUnavailableException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.manager.enums.ManagerSaveStatus;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final Long managerUserId;
+    private final ManagerSaveStatus status;
+    private final Long id; // SAVED 인 경우에만 생성된 manager id
+    private final UserResponse user;
+
+    public ManagerBulkSaveResponse(Long managerUserId, ManagerSaveStatus status, Long id, UserResponse user) {
+        this.managerUserId = managerUserId;
+        this.status = status;
+        this.id = id;
+        this.user = user;
+    }
+}
@@ -5,11 +5,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
 @NoArgsConstructor
 @Table(name = "managers")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manager")
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,9 @@
+package org.example.expert.domain.manager.enums;
+
+public enum ManagerSaveStatus {
+    SAVED,              // 담당자로 등록됨
+    ALREADY_ASSIGNED,   // 이미 해당 일정의 담당자
+    USER_NOT_FOUND,     // 존재하지 않는 유저
+    SELF_ASSIGNMENT,    // 일정 작성자 본인
+    DUPLICATE_IN_REQUEST // 같은 요청 안에서 중복된 유저 id
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.manager.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ManagerBatchRepository {
+
+    // 한 INSERT 문에 들어가는 최대 row 수
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+    private static final String INSERT_PREFIX = "INSERT INTO managers (user_id, todo_id) VALUES ";
+    private static final String VALUES_ROW = "(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 한 일정에 여러 담당자를 multi-row INSERT 로 저장하고, 입력 순서대로 생성된 id 를 반환합니다.
+     * 호출하는 쪽의 트랜잭션에 참여합니다.
+     */
+    public List<Long> insertAll(long todoId, List<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds.size());
+        for (int from = 0; from < userIds.size(); from += MAX_ROWS_PER_STATEMENT) {
+            ids.addAll(insertChunk(todoId, userIds.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, userIds.size()))));
+        }
+        evictManagersByTodo();
+        return ids;
+    }
+
+    /**
+     * JDBC insert 는 Hibernate 가 모르므로 일정별 담당자 목록 캐시를 직접 비웁니다.
+     * commit 전에 다른 요청이 이전 목록을 다시 캐시에 넣을 수 있으므로 트랜잭션이 끝난 뒤에 한 번 더 비웁니다.
+     */
+    private void evictManagersByTodo() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictQueryRegion(ManagerRepository.BY_TODO_CACHE_REGION);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evictQueryRegion(ManagerRepository.BY_TODO_CACHE_REGION);
+                }
+            });
+        }
+    }
+
+    private List<Long> insertChunk(long todoId, List<Long> userIds) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < userIds.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), new String[]{"id"});
+            int index = 1;
+            for (Long userId : userIds) {
+                ps.setLong(index++, userId);
+                ps.setLong(index++, todoId);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
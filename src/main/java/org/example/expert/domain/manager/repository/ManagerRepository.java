@@ -1,13 +1,27 @@
 package org.example.expert.domain.manager.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.manager.entity.Manager;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
+    String BY_TODO_CACHE_REGION = "manager-by-todo";
+
+    // 일정별 담당자 목록은 2차 캐시(manager-by-todo)에 둡니다. JDBC 로 insert 하면 ManagerBatchRepository 가 region 을 비웁니다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_TODO_CACHE_REGION)
+    })
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findUserIdsByTodoIdAndUserIdIn(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
 }
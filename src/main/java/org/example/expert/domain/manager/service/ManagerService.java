@@ -1,15 +1,23 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.HotTodoCacheable;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerSaveStatus;
+import org.example.expert.domain.manager.repository.ManagerBatchRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.HotTodoView;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.HotTodoCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -18,7 +26,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,28 +41,31 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ManagerBatchRepository managerBatchRepository;
+    private final HotTodoCache hotTodoCache;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
         Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+                .orElseThrow(() -> new InvalidRequestException(ErrorCode.TODO_NOT_FOUND));
 
         // todo의 user가 null인 경우 예외를 던지도록 수정
         if (todo.getUser() == null) {
-            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+            throw new InvalidRequestException(ErrorCode.INVALID_TODO_OWNER_FOR_MANAGER);
         }
 
         User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+                .orElseThrow(() -> new InvalidRequestException(ErrorCode.MANAGER_USER_NOT_FOUND));
 
         if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
-            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+            throw new InvalidRequestException(ErrorCode.SELF_MANAGER_NOT_ALLOWED);
         }
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        hotTodoCache.invalidate(todoId);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -57,9 +73,79 @@ public class ManagerService {
         );
     }
 
+    @Transactional
+    public List<ManagerBulkSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        // 일정을 만든 유저
+        User user = User.fromAuthUser(authUser);
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException(ErrorCode.TODO_NOT_FOUND));
+
+        // 일정을 만든 유저만 담당자를 등록할 수 있습니다.
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException(ErrorCode.INVALID_TODO_OWNER_FOR_MANAGER);
+        }
+
+        List<Long> requestedUserIds = managerBulkSaveRequest.getManagerUserIds();
+        Set<Long> distinctUserIds = new LinkedHashSet<>(requestedUserIds);
+
+        // 요청된 유저를 한 번의 쿼리로 조회
+        Map<Long, User> foundUsers = new HashMap<>();
+        for (User foundUser : userRepository.findAllById(distinctUserIds)) {
+            foundUsers.put(foundUser.getId(), foundUser);
+        }
+
+        // 이미 담당자로 등록된 유저도 한 번의 쿼리로 조회
+        Set<Long> assignedUserIds = foundUsers.isEmpty()
+                ? Set.of()
+                : new HashSet<>(managerRepository.findUserIdsByTodoIdAndUserIdIn(todo.getId(), foundUsers.keySet()));
+
+        ManagerSaveStatus[] statuses = new ManagerSaveStatus[requestedUserIds.size()];
+        List<Long> userIdsToSave = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < requestedUserIds.size(); i++) {
+            Long managerUserId = requestedUserIds.get(i);
+            if (!seen.add(managerUserId)) {
+                statuses[i] = ManagerSaveStatus.DUPLICATE_IN_REQUEST;
+            } else if (!foundUsers.containsKey(managerUserId)) {
+                statuses[i] = ManagerSaveStatus.USER_NOT_FOUND;
+            } else if (ObjectUtils.nullSafeEquals(user.getId(), managerUserId)) {
+                statuses[i] = ManagerSaveStatus.SELF_ASSIGNMENT;
+            } else if (assignedUserIds.contains(managerUserId)) {
+                statuses[i] = ManagerSaveStatus.ALREADY_ASSIGNED;
+            } else {
+                statuses[i] = ManagerSaveStatus.SAVED;
+                userIdsToSave.add(managerUserId);
+            }
+        }
+
+        // 등록 가능한 유저만 한 번에 insert
+        Map<Long, Long> savedManagerIds = new HashMap<>();
+        if (!userIdsToSave.isEmpty()) {
+            List<Long> managerIds = managerBatchRepository.insertAll(todo.getId(), userIdsToSave);
+            for (int i = 0; i < userIdsToSave.size(); i++) {
+                savedManagerIds.put(userIdsToSave.get(i), managerIds.get(i));
+            }
+            hotTodoCache.invalidate(todoId);
+        }
+
+        List<ManagerBulkSaveResponse> dtoList = new ArrayList<>(requestedUserIds.size());
+        for (int i = 0; i < requestedUserIds.size(); i++) {
+            Long managerUserId = requestedUserIds.get(i);
+            User managerUser = foundUsers.get(managerUserId);
+            dtoList.add(new ManagerBulkSaveResponse(
+                    managerUserId,
+                    statuses[i],
+                    statuses[i] == ManagerSaveStatus.SAVED ? savedManagerIds.get(managerUserId) : null,
+                    managerUser == null ? null : new UserResponse(managerUser.getId(), managerUser.getEmail())
+            ));
+        }
+        return dtoList;
+    }
+
+    @HotTodoCacheable(HotTodoView.MANAGERS)
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+                .orElseThrow(() -> new InvalidRequestException(ErrorCode.TODO_NOT_FOUND));
 
         List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
 
@@ -77,19 +163,20 @@ public class ManagerService {
     @Transactional
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
         Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+                .orElseThrow(() -> new InvalidRequestException(ErrorCode.TODO_NOT_FOUND));
 
         if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+            throw new InvalidRequestException(ErrorCode.INVALID_TODO_OWNER);
         }
 
         Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+                .orElseThrow(() -> new InvalidRequestException(ErrorCode.MANAGER_NOT_FOUND));
 
         if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+            throw new InvalidRequestException(ErrorCode.NOT_TODO_MANAGER);
         }
 
         managerRepository.delete(manager);
+        hotTodoCache.invalidate(todoId);
     }
 }
@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.HotTodoResponse;
+import org.example.expert.domain.todo.service.HotTodoCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoHotKeyAdminController {
+
+    private final HotTodoCache hotTodoCache;
+
+    // 최근 가장 많이 조회된 todo 목록 (많이 조회된 순)
+    @GetMapping("/admin/todos/hot")
+    public ResponseEntity<List<HotTodoResponse>> getHotTodos() {
+        return ResponseEntity.ok(hotTodoCache.getHeavyHitters());
+    }
+}
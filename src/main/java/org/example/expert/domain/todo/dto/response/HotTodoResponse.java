@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class HotTodoResponse {
+
+    private final long todoId;
+    private final int estimatedAccesses; // 최근 추정 조회 수 (주기적으로 절반씩 줄어듦)
+    private final boolean cached;        // 지금 hot-key 캐시 대상인지
+
+    public HotTodoResponse(long todoId, int estimatedAccesses, boolean cached) {
+        this.todoId = todoId;
+        this.estimatedAccesses = estimatedAccesses;
+        this.cached = cached;
+    }
+}
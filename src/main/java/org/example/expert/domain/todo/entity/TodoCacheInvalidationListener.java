@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.HotTodoCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * Todo 가 바뀌면(update, 삭제) hot-key 캐시에서 버립니다.
+ * Hibernate 가 스프링 빈으로 만들어 주므로 HotTodoCache 를 주입받을 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoCacheInvalidationListener {
+
+    private final HotTodoCache hotTodoCache;
+
+    @PostUpdate
+    @PostRemove
+    public void invalidate(Todo todo) {
+        hotTodoCache.invalidate(todo.getId());
+    }
+}
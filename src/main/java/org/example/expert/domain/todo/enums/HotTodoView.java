@@ -0,0 +1,10 @@
+package org.example.expert.domain.todo.enums;
+
+/**
+ * hot todo 캐시에 따로 담아 두는 조회 결과
+ */
+public enum HotTodoView {
+    TODO,
+    COMMENTS,
+    MANAGERS
+}
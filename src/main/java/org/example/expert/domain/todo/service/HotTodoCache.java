@@ -0,0 +1,174 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.dto.response.HotTodoResponse;
+import org.example.expert.domain.todo.enums.HotTodoView;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 조회가 몰리는(hot) todo 의 조회 결과만 짧게(ttl) 캐시합니다.
+ * 최근 추정 조회 수가 promoteThreshold 를 넘으면 캐시 대상이 되고, 횟수가 줄어들면(decay) 다시 빠집니다.
+ * 일정/댓글/담당자가 바뀌면 invalidate 로 해당 todo 의 캐시를 모두 버립니다.
+ */
+@Component
+public class HotTodoCache {
+
+    private static final HotTodoView[] VIEWS = HotTodoView.values();
+
+    private final TodoAccessSketch sketch;
+    private final Map<Long, HotEntry> entries = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int promoteThreshold;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final ReentrantLock demoteLock = new ReentrantLock();
+    private volatile long seenDecays;
+
+    // [view][0] = hit, [view][1] = miss (캐시 대상이지만 없거나 만료), [view][2] = cold (캐시 대상이 아님)
+    private final Counter[][] requests = new Counter[VIEWS.length][3];
+
+    @Autowired
+    public HotTodoCache(
+            MeterRegistry meterRegistry,
+            @Value("${hot-key.enabled:true}") boolean enabled,
+            @Value("${hot-key.sketch-width:4096}") int sketchWidth,
+            @Value("${hot-key.top-k:32}") int topK,
+            @Value("${hot-key.decay-interval-ms:10000}") long decayIntervalMillis,
+            @Value("${hot-key.promote-threshold:50}") int promoteThreshold,
+            @Value("${hot-key.cache.ttl-ms:1000}") long ttlMillis
+    ) {
+        this(meterRegistry, enabled, new TodoAccessSketch(sketchWidth, topK, TimeUnit.MILLISECONDS.toNanos(decayIntervalMillis), System::nanoTime),
+                promoteThreshold, topK, TimeUnit.MILLISECONDS.toNanos(ttlMillis), System::nanoTime);
+    }
+
+    HotTodoCache(MeterRegistry meterRegistry, boolean enabled, TodoAccessSketch sketch, int promoteThreshold, int maxEntries,
+                 long ttlNanos, LongSupplier clock) {
+        this.enabled = enabled;
+        this.sketch = sketch;
+        this.promoteThreshold = promoteThreshold;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+
+        for (HotTodoView view : VIEWS) {
+            String[] results = {"hit", "miss", "cold"};
+            for (int i = 0; i < results.length; i++) {
+                requests[view.ordinal()][i] = Counter.builder("hot.todo.cache.requests")
+                        .description("Reads of todo views by hot-key cache outcome")
+                        .tag("view", view.name().toLowerCase())
+                        .tag("result", results[i])
+                        .register(meterRegistry);
+            }
+        }
+        Gauge.builder("hot.todo.cache.size", entries, Map::size)
+                .description("Todos currently promoted into the hot-key cache")
+                .register(meterRegistry);
+    }
+
+    public Object get(long todoId, HotTodoView view, Loader loader) throws Throwable {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        int estimate = sketch.record(todoId);
+        demoteIfDecayed();
+
+        HotEntry entry = entries.get(todoId);
+        if (entry == null) {
+            if (estimate < promoteThreshold || entries.size() >= maxEntries) {
+                requests[view.ordinal()][2].increment();
+                return loader.load();
+            }
+            entry = entries.computeIfAbsent(todoId, id -> new HotEntry());
+        }
+
+        long generation = entry.generation.get();
+        CachedView cached = entry.views.get(view.ordinal());
+        long now = clock.getAsLong();
+        if (cached != null && cached.generation() == generation && cached.expiresAt() - now > 0) {
+            requests[view.ordinal()][0].increment();
+            return cached.value();
+        }
+
+        requests[view.ordinal()][1].increment();
+        Object value = loader.load();
+        // 불러오는 동안 invalidate 됐으면 generation 이 달라서 다음 조회에서 쓰이지 않습니다.
+        entry.views.set(view.ordinal(), new CachedView(value, generation, now + ttlNanos));
+        return value;
+    }
+
+    /**
+     * 지금 바로 버리고, 트랜잭션 안이면 commit(또는 rollback) 후에 한 번 더 버립니다.
+     * commit 전에 다른 요청이 이전 값을 다시 읽어 캐시에 넣을 수 있기 때문입니다.
+     */
+    public void invalidate(long todoId) {
+        evict(todoId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(todoId);
+                }
+            });
+        }
+    }
+
+    public List<HotTodoResponse> getHeavyHitters() {
+        return sketch.heavyHitters().stream()
+                .map(hitter -> new HotTodoResponse(hitter.todoId(), hitter.count(), entries.containsKey(hitter.todoId())))
+                .toList();
+    }
+
+    private void evict(long todoId) {
+        HotEntry entry = entries.get(todoId);
+        if (entry != null) {
+            entry.generation.incrementAndGet();
+            for (int i = 0; i < VIEWS.length; i++) {
+                entry.views.set(i, null);
+            }
+        }
+    }
+
+    // 횟수가 절반으로 줄었으면 더 이상 hot 하지 않은 todo 를 캐시에서 뺍니다.
+    private void demoteIfDecayed() {
+        long decays = sketch.getDecays();
+        if (decays == seenDecays || !demoteLock.tryLock()) {
+            return;
+        }
+        try {
+            seenDecays = decays;
+            entries.keySet().removeIf(todoId -> sketch.estimate(todoId) < promoteThreshold);
+        } finally {
+            demoteLock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        Object load() throws Throwable;
+    }
+
+    private record CachedView(Object value, long generation, long expiresAt) {
+    }
+
+    private static final class HotEntry {
+        private final AtomicLong generation = new AtomicLong();
+        private final AtomicReferenceArray<CachedView> views = new AtomicReferenceArray<>(VIEWS.length);
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * todo id 별 조회 횟수를 count-min sketch 로 세고, 가장 많이 조회된 k 개를 따로 들고 있습니다.
+ * decayIntervalNanos 마다 모든 횟수를 절반으로 줄여서, 최근에 많이 조회된 todo 가 위로 올라오게 합니다.
+ * (절반으로 줄이는 동안 들어온 증가분 일부는 잃을 수 있습니다. 추정치이므로 허용합니다.)
+ */
+public class TodoAccessSketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final AtomicIntegerArray counts;
+    private final int width;
+    private final int widthMask;
+    private final long decayIntervalNanos;
+    private final LongSupplier clock;
+    private final AtomicLong nextDecayAt;
+    private final AtomicLong decays = new AtomicLong();
+
+    // top-k 는 topLock 안에서만 바꿉니다. 요청 스레드는 tryLock 에 실패하면 갱신을 건너뜁니다.
+    private final ReentrantLock topLock = new ReentrantLock();
+    private final long[] topIds;
+    private final int[] topCounts;
+    private int topSize;
+    private volatile int topMin;
+
+    public TodoAccessSketch(int width, int topK, long decayIntervalNanos, LongSupplier clock) {
+        this.width = Integer.highestOneBit(Math.max(16, width) - 1) * 2;
+        this.widthMask = this.width - 1;
+        this.counts = new AtomicIntegerArray(DEPTH * this.width);
+        this.topIds = new long[topK];
+        this.topCounts = new int[topK];
+        this.decayIntervalNanos = decayIntervalNanos;
+        this.clock = clock;
+        this.nextDecayAt = new AtomicLong(clock.getAsLong() + decayIntervalNanos);
+    }
+
+    /**
+     * 조회를 한 번 기록하고, 최근 추정 조회 수를 돌려줍니다.
+     */
+    public int record(long todoId) {
+        decayIfDue();
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts.incrementAndGet(index(row, todoId)));
+        }
+        // 가장 적은 top-k 항목보다도 적으면 들어갈 수 없으므로 lock 없이 끝냅니다.
+        if (estimate >= topMin && topLock.tryLock()) {
+            try {
+                offer(todoId, estimate);
+            } finally {
+                topLock.unlock();
+            }
+        }
+        return estimate;
+    }
+
+    public int estimate(long todoId) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts.get(index(row, todoId)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 현재 heavy hitter 목록 (많이 조회된 순)
+     */
+    public List<HeavyHitter> heavyHitters() {
+        List<HeavyHitter> hitters = new ArrayList<>();
+        topLock.lock();
+        try {
+            for (int i = 0; i < topSize; i++) {
+                hitters.add(new HeavyHitter(topIds[i], topCounts[i]));
+            }
+        } finally {
+            topLock.unlock();
+        }
+        hitters.sort(Comparator.comparingInt(HeavyHitter::count).reversed());
+        return hitters;
+    }
+
+    /**
+     * 지금까지 횟수를 절반으로 줄인 횟수. 바뀌었으면 추정치가 줄었다는 뜻입니다.
+     */
+    public long getDecays() {
+        return decays.get();
+    }
+
+    private void offer(long todoId, int estimate) {
+        int minIndex = 0;
+        for (int i = 0; i < topSize; i++) {
+            if (topIds[i] == todoId) {
+                topCounts[i] = Math.max(topCounts[i], estimate);
+                updateTopMin();
+                return;
+            }
+            if (topCounts[i] < topCounts[minIndex]) {
+                minIndex = i;
+            }
+        }
+        if (topSize < topIds.length) {
+            topIds[topSize] = todoId;
+            topCounts[topSize] = estimate;
+            topSize++;
+        } else if (estimate > topCounts[minIndex]) {
+            topIds[minIndex] = todoId;
+            topCounts[minIndex] = estimate;
+        }
+        updateTopMin();
+    }
+
+    private void updateTopMin() {
+        if (topSize < topIds.length) {
+            topMin = 0;
+            return;
+        }
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < topSize; i++) {
+            min = Math.min(min, topCounts[i]);
+        }
+        topMin = min;
+    }
+
+    private void decayIfDue() {
+        long now = clock.getAsLong();
+        long due = nextDecayAt.get();
+        if (now - due < 0 || !nextDecayAt.compareAndSet(due, now + decayIntervalNanos)) {
+            return;
+        }
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, counts.get(i) >>> 1);
+        }
+        topLock.lock();
+        try {
+            int kept = 0;
+            for (int i = 0; i < topSize; i++) {
+                int halved = topCounts[i] >>> 1;
+                if (halved > 0) {
+                    topIds[kept] = topIds[i];
+                    topCounts[kept] = halved;
+                    kept++;
+                }
+            }
+            topSize = kept;
+            updateTopMin();
+        } finally {
+            topLock.unlock();
+        }
+        decays.incrementAndGet();
+    }
+
+    private int index(int row, long todoId) {
+        long h = (todoId + 1) * SEEDS[row];
+        h ^= h >>> 29;
+        return row * width + ((int) h & widthMask);
+    }
+
+    public record HeavyHitter(long todoId, int count) {
+    }
+}
@@ -1,8 +1,14 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserEmailFilterStatsResponse;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -18,4 +24,14 @@ public class UserAdminController {
     public void changeUserRole(@PathVariable("userId") long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
-}
\ No newline at end of file
+
+    @PatchMapping("/admin/users/roles")
+    public ResponseEntity<UserRoleBulkChangeResponse> changeUserRoles(@Valid @RequestBody UserRoleBulkChangeRequest userRoleBulkChangeRequest) {
+        return ResponseEntity.ok(userAdminService.changeUserRoles(userRoleBulkChangeRequest));
+    }
+
+    @GetMapping("/admin/users/email-filter")
+    public ResponseEntity<UserEmailFilterStatsResponse> getEmailFilterStats() {
+        return ResponseEntity.ok(userAdminService.getEmailFilterStats());
+    }
+}
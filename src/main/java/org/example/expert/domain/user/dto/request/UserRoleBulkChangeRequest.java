@@ -0,0 +1,24 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleBulkChangeRequest {
+
+    // userIds 와 emailDomain 중 하나만 지정합니다.
+    @Size(max = 10_000)
+    private List<Long> userIds;
+    @Pattern(regexp = "^[A-Za-z0-9.-]+$")
+    private String emailDomain;
+    @NotBlank
+    private String role;
+}
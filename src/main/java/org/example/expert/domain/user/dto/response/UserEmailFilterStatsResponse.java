@@ -0,0 +1,34 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserEmailFilterStatsResponse {
+
+    private final boolean ready;
+    private final int stages;
+    private final long insertions;
+    private final long memoryBytes;
+    private final double targetFalsePositiveRate;
+    private final double expectedFalsePositiveRate; // 현재 비트 채움 비율로 계산한 값
+    private final long lookups;
+    private final long skippedQueries;              // exists 쿼리를 건너뛴 횟수
+    private final long falsePositives;              // 있을 수도 있다고 했지만 DB 에 없던 횟수
+    private final double observedFalsePositiveRate;
+
+    public UserEmailFilterStatsResponse(boolean ready, int stages, long insertions, long memoryBytes,
+                                        double targetFalsePositiveRate, double expectedFalsePositiveRate,
+                                        long lookups, long skippedQueries, long falsePositives,
+                                        double observedFalsePositiveRate) {
+        this.ready = ready;
+        this.stages = stages;
+        this.insertions = insertions;
+        this.memoryBytes = memoryBytes;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+        this.expectedFalsePositiveRate = expectedFalsePositiveRate;
+        this.lookups = lookups;
+        this.skippedQueries = skippedQueries;
+        this.falsePositives = falsePositives;
+        this.observedFalsePositiveRate = observedFalsePositiveRate;
+    }
+}
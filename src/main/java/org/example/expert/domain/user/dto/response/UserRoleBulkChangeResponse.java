@@ -0,0 +1,19 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserRoleBulkChangeResponse {
+
+    private final long matchedCount;   // 대상 조건에 해당하는 유저 수
+    private final long updatedCount;   // 실제로 권한이 바뀐 유저 수
+    private final long unchangedCount; // 이미 요청한 권한이던 유저 수
+    private final long notFoundCount;  // userIds 중 존재하지 않는 유저 수
+
+    public UserRoleBulkChangeResponse(long matchedCount, long updatedCount, long unchangedCount, long notFoundCount) {
+        this.matchedCount = matchedCount;
+        this.updatedCount = updatedCount;
+        this.unchangedCount = unchangedCount;
+        this.notFoundCount = notFoundCount;
+    }
+}
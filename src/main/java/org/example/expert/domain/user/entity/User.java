@@ -6,20 +6,32 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import java.time.Instant;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 public class User extends Timestamped {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true)
+    @NaturalId
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 마지막으로 권한이 바뀐 시각. 이 시각 이전에 발급된 토큰은 받지 않습니다. (UserRoleChangeChecker)
+    private Instant roleChangedAt;
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
@@ -43,5 +55,6 @@ public class User extends Timestamped {
 
     public void updateRole(UserRole userRole) {
         this.userRole = userRole;
+        this.roleChangedAt = Instant.now();
     }
 }
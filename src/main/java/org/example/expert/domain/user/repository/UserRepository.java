@@ -1,11 +1,37 @@
 package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     boolean existsByEmail(String email);
+
+    long countByIdIn(Collection<Long> ids);
+
+    // email 은 대소문자를 섞어 저장될 수 있으므로 소문자로 바꿔서 비교합니다. (pattern 도 소문자로 넘김)
+    @Query("SELECT COUNT(u) FROM User u WHERE LOWER(u.email) LIKE :pattern")
+    long countByEmailLike(@Param("pattern") String pattern);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.userRole <> :role")
+    List<Long> findIdsByIdInAndUserRoleNot(@Param("ids") Collection<Long> ids, @Param("role") UserRole role);
+
+    // id 기준 keyset 페이징으로 대상 id 만 조회합니다.
+    @Query("SELECT u.id FROM User u WHERE LOWER(u.email) LIKE :pattern AND u.userRole <> :role AND u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsByEmailLikeAndUserRoleNot(
+            @Param("pattern") String pattern, @Param("role") UserRole role, @Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE User u SET u.userRole = :role, u.modifiedAt = :modifiedAt, u.roleChangedAt = :roleChangedAt WHERE u.id IN :ids")
+    int updateRoleByIdIn(@Param("ids") Collection<Long> ids, @Param("role") UserRole role,
+                         @Param("modifiedAt") LocalDateTime modifiedAt, @Param("roleChangedAt") Instant roleChangedAt);
 }
@@ -0,0 +1,36 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * email(natural id)로 조회합니다. 쿼리 메서드와 달리 natural id 캐시와 엔티티 캐시를 거치므로, 캐시에 있으면 SQL 을 실행하지 않습니다.
+     */
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    /**
+     * id 로 조회합니다. 엔티티 캐시에 있으면 SQL 을 실행하지 않고, 없으면 primary 에서 읽습니다.
+     * readOnly 트랜잭션을 시작하지 않으므로 replica 로 가지 않고, 커넥션도 캐시에 없을 때만 가져옵니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<User> findByIdFromPrimary(Long id) {
+        return Optional.ofNullable(entityManager.find(User.class, id));
+    }
+}
@@ -1,23 +1,95 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserEmailFilterStatsResponse;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
+    // UPDATE ... WHERE id IN (...) 한 번에 넣는 id 개수
+    private static final int CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final UserEmailBloomFilter userEmailBloomFilter;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException(ErrorCode.USER_NOT_FOUND));
+        UserRole userRole = UserRole.of(userRoleChangeRequest.getRole());
+        // 권한이 바뀐 시각(roleChangedAt)을 함께 저장하므로, 변경 전 권한이 담긴 토큰은 더 이상 받지 않습니다.
+        if (user.getUserRole() != userRole) {
+            user.updateRole(userRole);
+        }
+    }
+
+    @Transactional
+    public UserRoleBulkChangeResponse changeUserRoles(UserRoleBulkChangeRequest userRoleBulkChangeRequest) {
+        boolean byIds = userRoleBulkChangeRequest.getUserIds() != null && !userRoleBulkChangeRequest.getUserIds().isEmpty();
+        boolean byDomain = StringUtils.hasText(userRoleBulkChangeRequest.getEmailDomain());
+        if (byIds == byDomain) {
+            throw new InvalidRequestException(ErrorCode.ROLE_CHANGE_TARGET_CONFLICT);
+        }
+
+        UserRole userRole = UserRole.of(userRoleBulkChangeRequest.getRole());
+        LocalDateTime now = LocalDateTime.now();
+        // 변경 전 권한이 담긴 토큰은 더 이상 받지 않습니다. (UserRoleChangeChecker)
+        Instant roleChangedAt = Instant.now();
+        List<Long> changedIds = new ArrayList<>();
+        long matchedCount = 0;
+        long notFoundCount = 0;
+
+        if (byIds) {
+            List<Long> userIds = new ArrayList<>(new LinkedHashSet<>(userRoleBulkChangeRequest.getUserIds()));
+            for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+                long found = userRepository.countByIdIn(chunk);
+                matchedCount += found;
+                notFoundCount += chunk.size() - found;
+
+                // 엔티티를 읽지 않고 바뀌어야 하는 id 만 골라서 set 기반 UPDATE 를 실행합니다.
+                List<Long> idsToChange = userRepository.findIdsByIdInAndUserRoleNot(chunk, userRole);
+                if (!idsToChange.isEmpty()) {
+                    userRepository.updateRoleByIdIn(idsToChange, userRole, now, roleChangedAt);
+                    changedIds.addAll(idsToChange);
+                }
+            }
+        } else {
+            String pattern = "%@" + userRoleBulkChangeRequest.getEmailDomain().trim().toLowerCase(Locale.ROOT);
+            matchedCount = userRepository.countByEmailLike(pattern);
+
+            long afterId = 0;
+            List<Long> chunk;
+            while (!(chunk = userRepository.findIdsByEmailLikeAndUserRoleNot(pattern, userRole, afterId, PageRequest.of(0, CHUNK_SIZE))).isEmpty()) {
+                userRepository.updateRoleByIdIn(chunk, userRole, now, roleChangedAt);
+                changedIds.addAll(chunk);
+                afterId = chunk.get(chunk.size() - 1);
+            }
+        }
+
+        return new UserRoleBulkChangeResponse(matchedCount, changedIds.size(), matchedCount - changedIds.size(), notFoundCount);
+    }
+
+    public UserEmailFilterStatsResponse getEmailFilterStats() {
+        return userEmailBloomFilter.getStats();
     }
 }
@@ -0,0 +1,222 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.response.UserEmailFilterStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가입 이메일 중복 확인용 scalable bloom filter.
+ * "없다" 는 답은 확실하므로 exists 쿼리를 건너뛸 수 있고, "있을 수도 있다" 일 때만 DB 를 확인합니다.
+ * 한 단계가 가득 차면 용량은 2배, 오탐률은 절반인 다음 단계를 추가해 전체 오탐률을 목표치 이하로 유지합니다.
+ */
+@Slf4j
+@Component
+public class UserEmailBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int initialCapacity;
+    private final double falsePositiveRate;
+
+    private volatile Stage[] stages;
+    private final ReentrantLock growLock = new ReentrantLock();
+
+    // 워밍업 전에는 모든 이메일을 "있을 수도 있다" 로 취급합니다.
+    private volatile boolean ready;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder skippedQueries = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public UserEmailBloomFilter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${user.email-filter.initial-capacity:100000}") int initialCapacity,
+            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.stages = new Stage[]{new Stage(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        JdbcTemplate scanTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        scanTemplate.setFetchSize(10_000);
+        scanTemplate.query("SELECT email FROM users", rs -> {
+            String email = rs.getString(1);
+            if (email != null) {
+                put(email);
+            }
+        });
+        ready = true;
+
+        UserEmailFilterStatsResponse stats = getStats();
+        log.info("User email bloom filter warmed: {} emails, {} stages, {} bytes, expected fpp {}, {} ms",
+                stats.getInsertions(), stats.getStages(), stats.getMemoryBytes(),
+                stats.getExpectedFalsePositiveRate(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public boolean mightContain(String email) {
+        lookups.increment();
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(email);
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash)) {
+                return true;
+            }
+        }
+        skippedQueries.increment();
+        return false;
+    }
+
+    public void put(String email) {
+        long hash = hash(email);
+        Stage[] current = stages;
+        Stage last = current[current.length - 1];
+        last.put(hash);
+        if (last.count.incrementAndGet() >= last.capacity) {
+            grow(current.length);
+        }
+    }
+
+    // mightContain 이 true 였지만 DB 에는 없던 경우를 기록합니다.
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    public UserEmailFilterStatsResponse getStats() {
+        Stage[] current = stages;
+        long insertions = 0;
+        long memoryBytes = 0;
+        double notFalsePositive = 1.0;
+        for (Stage stage : current) {
+            insertions += stage.count.get();
+            memoryBytes += (long) stage.bits.length() * Long.BYTES;
+            notFalsePositive *= 1 - stage.currentFalsePositiveRate();
+        }
+        long positiveLookups = lookups.sum() - skippedQueries.sum();
+        return new UserEmailFilterStatsResponse(
+                ready,
+                current.length,
+                insertions,
+                memoryBytes,
+                falsePositiveRate,
+                1 - notFalsePositive,
+                lookups.sum(),
+                skippedQueries.sum(),
+                falsePositives.sum(),
+                positiveLookups == 0 ? 0 : (double) falsePositives.sum() / positiveLookups
+        );
+    }
+
+    private void grow(int expectedLength) {
+        growLock.lock();
+        try {
+            Stage[] current = stages;
+            if (current.length != expectedLength) {
+                return; // 다른 스레드가 이미 추가함
+            }
+            Stage last = current[current.length - 1];
+            Stage next = new Stage(
+                    (int) Math.min(Integer.MAX_VALUE / 2, (long) last.capacity * GROWTH_FACTOR),
+                    last.targetFalsePositiveRate * TIGHTENING_RATIO
+            );
+            Stage[] grown = new Stage[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[current.length] = next;
+            stages = grown;
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    // 정규화한 이메일의 64bit 해시 (FNV-1a + murmur3 finalizer)
+    private static long hash(String email) {
+        byte[] bytes = email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Stage {
+
+        private final int capacity;
+        private final double targetFalsePositiveRate;
+        private final int hashCount;
+        private final long bitCount;
+        private final AtomicLongArray bits;
+        private final AtomicInteger count = new AtomicInteger();
+
+        Stage(int capacity, double targetFalsePositiveRate) {
+            this.capacity = capacity;
+            this.targetFalsePositiveRate = targetFalsePositiveRate;
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(targetFalsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((optimalBits + 63) / 64));
+            this.bitCount = (long) bits.length() * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value;
+                do {
+                    value = bits.get(word);
+                    if ((value & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        // 현재 채워진 비트 비율로 계산한 오탐률
+        double currentFalsePositiveRate() {
+            long setBits = 0;
+            for (int i = 0; i < bits.length(); i++) {
+                setBits += Long.bitCount(bits.get(i));
+            }
+            return Math.pow((double) setBits / bitCount, hashCount);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.BackgroundThreads;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * User.email 의 prefix 검색용 in-memory 인덱스.
+ * 시작 시 users 테이블을 한 번 스캔해 정렬된 byte 배열 스냅샷을 만들고,
+ * 이후 가입한 유저는 작은 delta 맵에 쌓았다가 일정 크기가 되면 스냅샷에 병합합니다.
+ * 병합은 가입 요청 스레드가 아니라 백그라운드 스레드에서 하고, 그동안 검색은 이전 스냅샷 + delta 를 봅니다.
+ * email 은 소문자로 정규화해서 저장하고 반환합니다.
+ */
+@Slf4j
+@Component
+public class UserEmailPrefixIndex {
+
+    private static final int MERGE_THRESHOLD = 4096;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final ConcurrentSkipListMap<String, Long> delta = new ConcurrentSkipListMap<>();
+    private final ReentrantLock mergeLock = new ReentrantLock();
+    private final AtomicBoolean mergeScheduled = new AtomicBoolean();
+    private final Executor mergeExecutor;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    public UserEmailPrefixIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mergeExecutor = task -> BackgroundThreads.start("user-email-index-merge", virtualThreads, task);
+    }
+
+    UserEmailPrefixIndex(JdbcTemplate jdbcTemplate, Executor mergeExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mergeExecutor = mergeExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        List<byte[]> emails = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+
+        // 공용 JdbcTemplate 설정을 바꾸지 않도록 스캔 전용 템플릿을 씁니다.
+        JdbcTemplate scanTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        scanTemplate.setFetchSize(10_000);
+        scanTemplate.query("SELECT id, email FROM users", rs -> {
+            String email = rs.getString(2);
+            if (email != null) {
+                ids.add(rs.getLong(1));
+                emails.add(encode(email));
+            }
+        });
+
+        mergeLock.lock();
+        try {
+            snapshot = Snapshot.build(emails, ids);
+        } finally {
+            mergeLock.unlock();
+        }
+        log.info("User email prefix index loaded: {} users, {} bytes, {} ms",
+                snapshot.size(), snapshot.sizeInBytes(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 새로 가입한 유저를 인덱스에 추가합니다. 트랜잭션 안이라면 commit 이후에 반영됩니다.
+     */
+    public void add(Long userId, String email) {
+        if (userId == null || email == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(userId, email);
+                }
+            });
+            return;
+        }
+        addNow(userId, email);
+    }
+
+    /**
+     * prefix 로 시작하는 email 을 사전순으로 최대 limit 개 반환합니다.
+     */
+    public List<UserResponse> search(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        byte[] prefixBytes = normalizedPrefix.getBytes(StandardCharsets.UTF_8);
+
+        List<UserResponse> fromSnapshot = snapshot.search(prefixBytes, limit);
+        ConcurrentNavigableMap<String, Long> fromDelta =
+                delta.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false);
+        if (fromDelta.isEmpty()) {
+            return fromSnapshot;
+        }
+
+        // 두 정렬된 결과를 병합합니다. 병합 직후에는 같은 유저가 양쪽에 있을 수 있어 id 로 중복을 제거합니다.
+        List<UserResponse> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        int i = 0;
+        var deltaIterator = fromDelta.entrySet().iterator();
+        Map.Entry<String, Long> next = deltaIterator.hasNext() ? deltaIterator.next() : null;
+        while (result.size() < limit && (i < fromSnapshot.size() || next != null)) {
+            UserResponse candidate;
+            if (next == null || (i < fromSnapshot.size() && fromSnapshot.get(i).getEmail().compareTo(next.getKey()) <= 0)) {
+                candidate = fromSnapshot.get(i++);
+            } else {
+                candidate = new UserResponse(next.getValue(), next.getKey());
+                next = deltaIterator.hasNext() ? deltaIterator.next() : null;
+            }
+            if (seen.add(candidate.getId())) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return snapshot.size() + delta.size();
+    }
+
+    private void addNow(Long userId, String email) {
+        delta.put(normalize(email), userId);
+        // 병합은 한 번에 하나만 예약합니다. 병합 중에 들어온 유저는 delta 에 남아 다음 병합에 포함됩니다.
+        if (delta.size() >= MERGE_THRESHOLD && mergeScheduled.compareAndSet(false, true)) {
+            mergeExecutor.execute(this::mergeInBackground);
+        }
+    }
+
+    private void mergeInBackground() {
+        mergeLock.lock();
+        try {
+            merge();
+        } catch (RuntimeException e) {
+            log.warn("User email prefix index merge failed, delta size: {}", delta.size(), e);
+        } finally {
+            mergeLock.unlock();
+            mergeScheduled.set(false);
+        }
+    }
+
+    private void merge() {
+        List<Map.Entry<String, Long>> pending = new ArrayList<>(delta.entrySet());
+        List<Added> added = new ArrayList<>(pending.size());
+        for (Map.Entry<String, Long> entry : pending) {
+            added.add(new Added(encode(entry.getKey()), entry.getValue()));
+        }
+        // String 순서와 UTF-8 byte 순서가 다를 수 있어 스냅샷과 같은 기준으로 다시 정렬합니다.
+        added.sort((a, b) -> Arrays.compareUnsigned(a.email(), b.email()));
+
+        snapshot = Snapshot.merge(snapshot, added);
+        for (Map.Entry<String, Long> entry : pending) {
+            delta.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static byte[] encode(String email) {
+        return normalize(email).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 모든 email 을 하나의 byte 배열에 이어 붙이고, offset/id 배열로 찾아가는 불변 스냅샷.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new byte[0], new int[]{0}, new long[0]);
+
+        private final byte[] data;
+        private final int[] offsets;
+        private final long[] ids;
+
+        private Snapshot(byte[] data, int[] offsets, long[] ids) {
+            this.data = data;
+            this.offsets = offsets;
+            this.ids = ids;
+        }
+
+        static Snapshot build(List<byte[]> emails, List<Long> ids) {
+            Integer[] order = new Integer[emails.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(emails.get(a), emails.get(b)));
+
+            int totalBytes = 0;
+            for (byte[] email : emails) {
+                totalBytes += email.length;
+            }
+
+            byte[] data = new byte[totalBytes];
+            int[] offsets = new int[order.length + 1];
+            long[] sortedIds = new long[order.length];
+            int position = 0;
+            for (int i = 0; i < order.length; i++) {
+                byte[] email = emails.get(order[i]);
+                offsets[i] = position;
+                System.arraycopy(email, 0, data, position, email.length);
+                position += email.length;
+                sortedIds[i] = ids.get(order[i]);
+            }
+            offsets[order.length] = position;
+            return new Snapshot(data, offsets, sortedIds);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        long sizeInBytes() {
+            return data.length + (long) offsets.length * Integer.BYTES + (long) ids.length * Long.BYTES;
+        }
+
+        // 정렬된 스냅샷과 정렬된 추가분을 한 번 훑어서 합칩니다. (전체를 다시 정렬하지 않음)
+        static Snapshot merge(Snapshot base, List<Added> added) {
+            int total = base.size() + added.size();
+            int addedBytes = 0;
+            for (Added entry : added) {
+                addedBytes += entry.email().length;
+            }
+
+            byte[] data = new byte[base.data.length + addedBytes];
+            int[] offsets = new int[total + 1];
+            long[] ids = new long[total];
+            int i = 0;
+            int j = 0;
+            int position = 0;
+            for (int k = 0; k < total; k++) {
+                offsets[k] = position;
+                boolean fromBase = j == added.size() || (i < base.size() && Arrays.compareUnsigned(
+                        base.data, base.offsets[i], base.offsets[i + 1], added.get(j).email(), 0, added.get(j).email().length) <= 0);
+                if (fromBase) {
+                    int length = base.offsets[i + 1] - base.offsets[i];
+                    System.arraycopy(base.data, base.offsets[i], data, position, length);
+                    position += length;
+                    ids[k] = base.ids[i++];
+                } else {
+                    byte[] email = added.get(j).email();
+                    System.arraycopy(email, 0, data, position, email.length);
+                    position += email.length;
+                    ids[k] = added.get(j++).id();
+                }
+            }
+            offsets[total] = position;
+            return new Snapshot(data, offsets, ids);
+        }
+
+        List<UserResponse> search(byte[] prefix, int limit) {
+            List<UserResponse> result = new ArrayList<>(Math.min(limit, 16));
+            for (int i = lowerBound(prefix); i < ids.length && result.size() < limit && startsWith(i, prefix); i++) {
+                String email = new String(data, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+                result.add(new UserResponse(ids[i], email));
+            }
+            return result;
+        }
+
+        // prefix 이상인 첫 번째 email 의 위치
+        private int lowerBound(byte[] prefix) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (Arrays.compareUnsigned(data, offsets[mid], offsets[mid + 1], prefix, 0, prefix.length) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private boolean startsWith(int index, byte[] prefix) {
+            int length = offsets[index + 1] - offsets[index];
+            return length >= prefix.length
+                    && Arrays.equals(data, offsets[index], offsets[index] + prefix.length, prefix, 0, prefix.length);
+        }
+    }
+
+    private record Added(byte[] email, long id) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 권한이 바뀐 유저의, 변경 이전에 발급된 JWT(이전 userRole 이 담긴 토큰)를 거부합니다.
+ * 변경 시각은 users.role_changed_at 에 저장하므로 재시작해도 남고, 다른 인스턴스에서 바꾼 권한도 확인합니다.
+ * 요청마다 확인하므로 유저는 2차 캐시(user region)에서 읽고, 캐시에 없으면 primary 에서 읽습니다.
+ * 다른 인스턴스에서 바뀐 권한은 이 인스턴스의 캐시가 만료될 때까지(ehcache.xml user TTL) 늦게 보일 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserRoleChangeChecker {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 토큰이 권한 변경보다 먼저(또는 같은 ms 에) 발급되었거나, 토큰의 권한이 지금 권한과 다르면 true
+     * 변경을 commit 하기 전에 이전 권한을 읽어 발급된 토큰은 발급 시각이 변경 시각보다 늦으므로 권한으로 거릅니다.
+     * 없는 유저는 여기서 거르지 않습니다. (이후 조회에서 USER_NOT_FOUND)
+     */
+    public boolean isStale(Long userId, UserRole tokenRole, Long issuedAtMillis) {
+        Optional<User> found = userRepository.findByIdFromPrimary(userId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        User user = found.get();
+        if (user.getUserRole() != tokenRole) {
+            return true;
+        }
+        if (user.getRoleChangedAt() == null) {
+            return false;
+        }
+        return issuedAtMillis == null || issuedAtMillis <= user.getRoleChangedAt().toEpochMilli();
+    }
+}
@@ -2,13 +2,18 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -17,25 +22,40 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserEmailPrefixIndex userEmailPrefixIndex;
+
+    private static final int MAX_SEARCH_SIZE = 50;
 
     public UserResponse getUser(long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException(ErrorCode.USER_NOT_FOUND));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
+    // in-memory 인덱스만 조회하므로 트랜잭션(커넥션)을 열지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserResponse> searchUsers(String prefix, int size) {
+        if (!StringUtils.hasText(prefix)) {
+            throw new InvalidRequestException(ErrorCode.EMPTY_EMAIL_PREFIX);
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        return userEmailPrefixIndex.search(prefix, size);
+    }
+
     @Transactional
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validatePasswordComplexity(userChangePasswordRequest.getNewPassword());
 
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
+                .orElseThrow(() -> new InvalidRequestException(ErrorCode.USER_NOT_FOUND));
 
         if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+            throw new InvalidRequestException(ErrorCode.SAME_PASSWORD);
         }
 
         if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
-            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+            throw new InvalidRequestException(ErrorCode.WRONG_PASSWORD);
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
@@ -50,7 +70,7 @@ public class UserService {
         if (password.length() < MIN_LENGTH ||
                 !password.matches(DIGIT_REGEX) ||
                 !password.matches(UPPERCASE_REGEX)) {
-            throw new InvalidRequestException("새 비밀번호는 8자 이상이어야 하고, 숫자와 대문자를 포함해야 합니다.");
+            throw new InvalidRequestException(ErrorCode.INVALID_NEW_PASSWORD);
         }
     }
 }
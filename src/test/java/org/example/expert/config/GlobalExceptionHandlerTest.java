@@ -0,0 +1,81 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler(new ObjectMapper(), false);
+
+    @Test
+    void 고정_메시지_오류는_미리_만든_JSON_본문을_내려준다() {
+        // when
+        ResponseEntity<?> response = globalExceptionHandler.invalidRequestExceptionException(
+                new InvalidRequestException(ErrorCode.TODO_NOT_FOUND));
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("{\"status\":\"BAD_REQUEST\",\"code\":400,\"message\":\"Todo not found\"}",
+                new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void 부하로_거절한_오류는_503_과_Retry_After_를_내려준다() {
+        // when
+        ResponseEntity<?> response = globalExceptionHandler.handleServiceUnavailableException(
+                new ServiceUnavailableException(ErrorCode.COMMENT_QUEUE_FULL));
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void 메시지가_바뀌는_오류는_매번_본문을_만든다() {
+        // when
+        ResponseEntity<?> response = globalExceptionHandler.handleAuthException(new AuthException("토큰이 만료되었습니다."));
+
+        // then
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals(Map.of("status", "UNAUTHORIZED", "code", 401, "message", "토큰이 만료되었습니다."), response.getBody());
+    }
+
+    @Test
+    void 도메인_예외는_디버깅이_꺼져_있으면_stack_trace_를_채우지_않는다() {
+        // given - 다른 컨텍스트의 handler 설정은 예외 생성에 영향을 주지 않는다
+        new GlobalExceptionHandler(new ObjectMapper(), true);
+
+        // when
+        InvalidRequestException stackless = new InvalidRequestException(ErrorCode.USER_NOT_FOUND);
+
+        // then
+        assertEquals(0, stackless.getStackTrace().length);
+        assertEquals("User not found", stackless.getMessage());
+    }
+
+    @Test
+    void ErrorCode_의_status_와_예외_타입의_status_가_다르면_예외_타입의_status_로_응답한다() {
+        // when
+        ResponseEntity<?> response = globalExceptionHandler.handleServerException(new ServerException(ErrorCode.TODO_NOT_FOUND));
+
+        // then
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertEquals(Map.of("status", "INTERNAL_SERVER_ERROR", "code", 500, "message", "Todo not found"), response.getBody());
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.datasource.ReadYourWritesTracker;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SecondLevelCacheTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 캐시된_유저는_email_로그인에서_SQL_을_실행하지_않는다() throws Exception {
+        // given
+        User user = saveUser();
+        signin(user.getEmail(), PASSWORD).andExpect(status().isOk());
+
+        // when
+        List<String> statements = sqlStatementRecorder.record(() -> signin(user.getEmail(), PASSWORD).andExpect(status().isOk()));
+
+        // then
+        assertTrue(statements.isEmpty(), () -> "executed: " + statements);
+    }
+
+    @Test
+    void 비밀번호를_바꾸면_캐시된_유저도_새_비밀번호로_바뀐다() throws Exception {
+        // given
+        User user = saveUser();
+        signin(user.getEmail(), PASSWORD).andExpect(status().isOk());
+        String newPassword = "NewPassword5678";
+
+        // when
+        mockMvc.perform(put("/users")
+                        .header("Authorization", tokenOf(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"oldPassword\":\"" + PASSWORD + "\",\"newPassword\":\"" + newPassword + "\"}"))
+                .andExpect(status().isOk());
+
+        // then
+        signin(user.getEmail(), newPassword).andExpect(status().isOk());
+        signin(user.getEmail(), PASSWORD).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 권한을_바꾸면_캐시된_유저도_새_권한으로_바뀐다() throws Exception {
+        // given
+        User user = saveUser();
+        User otherUser = saveUser();
+        String adminToken = tokenOf(saveUser(UserRole.ADMIN));
+        userRepository.findById(user.getId());
+        userRepository.findById(otherUser.getId());
+
+        // when: 단건 변경(dirty checking)과 일괄 변경(UPDATE 쿼리)
+        mockMvc.perform(patch("/admin/users/{userId}", user.getId())
+                        .header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/admin/users/roles")
+                        .header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[" + otherUser.getId() + "],\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk());
+
+        // then
+        assertEquals(UserRole.ADMIN, userRepository.findById(user.getId()).orElseThrow().getUserRole());
+        assertEquals(UserRole.ADMIN, userRepository.findById(otherUser.getId()).orElseThrow().getUserRole());
+    }
+
+    @Test
+    void 권한_변경_시각은_DB_에_남아_캐시가_비어도_이전_토큰을_거부한다() throws Exception {
+        // given
+        User user = saveUser();
+        String oldToken = tokenOf(user);
+        String adminToken = tokenOf(saveUser(UserRole.ADMIN));
+        mockMvc.perform(patch("/admin/users/roles")
+                        .header("Authorization", adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[" + user.getId() + "],\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk());
+
+        // when: 재시작했거나 다른 인스턴스라 캐시에 아무것도 없는 상태
+        entityManagerFactory.getCache().evictAll();
+
+        // then
+        mockMvc.perform(get("/users/{userId}", user.getId()).header("Authorization", oldToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/admin/todos/hot").header("Authorization", tokenOf(userRepository.findById(user.getId()).orElseThrow())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 담당자_목록은_캐시되고_일괄_등록하면_다시_조회한다() throws Exception {
+        // given
+        User owner = saveUser();
+        Todo todo = saveTodo(owner);
+        String token = tokenOf(owner);
+        getManagers(todo, token).andExpect(jsonPath("$", hasSize(1)));
+
+        // when
+        List<String> cached = sqlStatementRecorder.record(() -> getManagers(todo, token).andExpect(jsonPath("$", hasSize(1))));
+        mockMvc.perform(post("/todos/{todoId}/managers/bulk", todo.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserIds\":[" + saveUser().getId() + "]}"))
+                .andExpect(status().isOk());
+
+        // then: 일정 조회만 실행하고, JDBC 로 등록한 담당자도 바로 보입니다.
+        assertEquals(1, cached.size(), () -> "executed: " + cached);
+        getManagers(todo, token).andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void 최근에_쓰기를_commit_한_사용자는_담당자_목록_캐시를_건너뛴다() throws Exception {
+        // given
+        User owner = saveUser();
+        Todo todo = saveTodo(owner);
+        String token = tokenOf(owner);
+        getManagers(todo, token).andExpect(jsonPath("$", hasSize(1)));
+        readYourWritesTracker.markWrite(owner.getId());
+
+        // when
+        List<String> statements = sqlStatementRecorder.record(() -> getManagers(todo, token).andExpect(jsonPath("$", hasSize(1))));
+
+        // then: 일정 조회와 담당자 목록 조회를 모두 DB 에서 실행합니다.
+        assertEquals(2, statements.size(), () -> "executed: " + statements);
+    }
+
+    private ResultActions signin(String email, String password) throws Exception {
+        return mockMvc.perform(post("/auth/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"));
+    }
+
+    private ResultActions getManagers(Todo todo, String token) throws Exception {
+        return mockMvc.perform(get("/todos/{todoId}/managers", todo.getId()).header("Authorization", token))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * primary / replica 를 각각 H2 인메모리 DB 로 띄워서, 어느 쪽에서 읽었는지로 routing 을 확인합니다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private DriverManagerDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(primary).execute("create table node (name varchar(20)); insert into node values ('primary')");
+        new JdbcTemplate(replica).execute("create table node (name varchar(20)); insert into node values ('replica')");
+        setUpRouting(primary, new ReplicaLagMonitor(replica, "", 10_000, new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnly_트랜잭션은_replica_에서_읽는다() {
+        // when
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertEquals("replica", node);
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_primary_를_쓴다() {
+        // when
+        String node = writeTransaction.execute(status -> currentNode());
+
+        // then
+        assertEquals("primary", node);
+    }
+
+    @Test
+    void 쓰기를_commit_한_사용자의_읽기는_primary_로_간다() {
+        // given
+        requestBy(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("insert into node values ('written')"));
+
+        // when
+        String writer = readOnlyTransaction.execute(status -> currentNode());
+        requestBy(2L);
+        String other = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertEquals("primary", writer);
+        assertEquals("replica", other);
+    }
+
+    @Test
+    void rollback_된_쓰기는_read_your_writes_대상이_아니다() {
+        // given
+        requestBy(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into node values ('written')");
+            status.setRollbackOnly();
+        });
+
+        // when
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertEquals("replica", node);
+    }
+
+    @Test
+    void replica_지연이_max_lag_를_넘으면_모든_읽기가_primary_로_간다() {
+        // given
+        DriverManagerDataSource primary = h2("primary");
+        new JdbcTemplate(primary).execute("create table node (name varchar(20)); insert into node values ('primary')");
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, "select 20000", 10_000, new SimpleMeterRegistry());
+        lagMonitor.poll();
+        setUpRouting(primary, lagMonitor);
+
+        // when
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertEquals(20_000, lagMonitor.getLagMillis());
+        assertEquals("primary", node);
+    }
+
+    @Test
+    void replica_지연_측정_스레드는_stop_하면_끝난다() throws Exception {
+        // given
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, "select 0", 10_000, new SimpleMeterRegistry());
+        lagMonitor.start(10, false);
+
+        // when
+        lagMonitor.stop();
+
+        // then
+        assertFalse(Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("replica-lag-monitor")));
+    }
+
+    private void setUpRouting(DriverManagerDataSource primary, ReplicaLagMonitor lagMonitor) {
+        ReadYourWritesTracker readYourWrites = new ReadYourWritesTracker(TimeUnit.SECONDS.toNanos(10), System::nanoTime);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, readYourWrites, lagMonitor, new SimpleMeterRegistry()));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(readYourWrites);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node limit 1", String.class);
+    }
+
+    private static void requestBy(Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.config.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesTrackerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(TimeUnit.SECONDS.toNanos(2), now::get);
+
+    @Test
+    void 쓰기_후_window_동안만_최근_쓰기로_본다() {
+        // given
+        tracker.markWrite(1L);
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        boolean within = tracker.recentlyWrote(1L, 0);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        boolean after = tracker.recentlyWrote(1L, 0);
+
+        // then
+        assertTrue(within);
+        assertFalse(after);
+        assertFalse(tracker.recentlyWrote(2L, 0));
+    }
+
+    @Test
+    void replica_지연이_window_보다_길면_지연만큼_기다린다() {
+        // given
+        tracker.markWrite(1L);
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(3));
+
+        // then
+        assertTrue(tracker.recentlyWrote(1L, 5000));
+        assertFalse(tracker.recentlyWrote(1L, 0));
+    }
+}
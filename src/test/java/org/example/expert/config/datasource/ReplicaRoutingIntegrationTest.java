@@ -0,0 +1,125 @@
+package org.example.expert.config.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * primary / replica 를 서로 다른 H2 인메모리 DB 로 띄웁니다.
+ * 둘 사이에 복제는 없으므로(스키마만 복사), replica 에서 읽은 요청은 primary 에만 있는 데이터를 보지 못합니다.
+ */
+@TestPropertySource(properties = {
+        "datasource.routing.enabled=true",
+        "datasource.primary.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.read-your-writes-ms=60000"
+})
+class ReplicaRoutingIntegrationTest extends QueryBudgetTestSupport {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        if (replica.queryForObject("select count(*) from information_schema.tables where table_name = 'TODOS'", Integer.class) > 0) {
+            return;
+        }
+        List<String> ddl = new JdbcTemplate(primaryDataSource).queryForList("script nodata", String.class);
+        ddl.forEach(replica::execute);
+    }
+
+    @Test
+    void 일정을_만든_사용자는_바로_조회할_수_있고_다른_사용자의_조회는_replica_로_간다() throws Exception {
+        // given
+        User writer = saveUser();
+        User reader = saveUser();
+        String response = mockMvc.perform(post("/todos")
+                        .header("Authorization", tokenOf(writer))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"title\",\"contents\":\"contents\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long todoId = objectMapper.readTree(response).get("id").asLong();
+
+        // when & then: 작성자는 read-your-writes 로 primary 에서 읽고, 복제되지 않은 replica 에는 일정이 없습니다.
+        mockMvc.perform(get("/todos/{todoId}", todoId).header("Authorization", tokenOf(writer)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/todos/{todoId}", todoId).header("Authorization", tokenOf(reader)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 로그인은_primary_에서_읽어_replica_에_남은_이전_권한으로_토큰을_발급하지_않는다() throws Exception {
+        // given: primary 는 ADMIN 으로 바뀌었고, replica 에는 아직 USER 인 행이 남아 있습니다.
+        User user = saveUser(UserRole.ADMIN);
+        copyToReplica(user, UserRole.USER);
+        entityManagerFactory.getCache().evict(User.class);
+
+        // when
+        String response = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // then: 발급된 토큰으로 관리자 API 를 쓸 수 있습니다.
+        String bearerToken = objectMapper.readTree(response).get("bearerToken").asText();
+        mockMvc.perform(get("/admin/todos/hot").header("Authorization", bearerToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void replica_에서_읽은_엔티티는_2차_캐시에_넣지_않는다() throws Exception {
+        // given
+        User user = saveUser(UserRole.ADMIN);
+        copyToReplica(user, UserRole.USER);
+        User reader = saveUser();
+        entityManagerFactory.getCache().evict(User.class);
+
+        // when: 묶이지 않은 사용자의 조회는 replica 에서 이전 값을 읽습니다.
+        mockMvc.perform(get("/users/{userId}", user.getId()).header("Authorization", tokenOf(reader)))
+                .andExpect(status().isOk());
+
+        // then: 그 값이 공유 캐시에 들어가 primary 의 값을 가리지 않습니다.
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isFalse();
+    }
+
+    // primary 의 행을 권한만 바꿔 replica 에 넣습니다. (복제가 늦어 이전 권한이 남은 상태)
+    private void copyToReplica(User user, UserRole staleRole) {
+        Map<String, Object> row = new JdbcTemplate(primaryDataSource)
+                .queryForMap("select * from users where id = ?", user.getId());
+        row.put("USER_ROLE", staleRole.name());
+        String columns = String.join(", ", row.keySet());
+        String placeholders = String.join(", ", row.keySet().stream().map(column -> "?").toList());
+        new JdbcTemplate(replicaDataSource)
+                .update("insert into users (" + columns + ") values (" + placeholders + ")", row.values().toArray());
+    }
+}
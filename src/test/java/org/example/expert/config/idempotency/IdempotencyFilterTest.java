@@ -0,0 +1,251 @@
+package org.example.expert.config.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore store = new IdempotencyStore(100, TimeUnit.HOURS.toNanos(1), 1000, System::nanoTime);
+        filter = new IdempotencyFilter(store, 5000, new SimpleMeterRegistry());
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void 같은_key_로_다시_온_요청은_처리하지_않고_저장된_응답을_받는다() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("/todos", 1L, "key-1"), first, createTodo(201));
+
+        // when
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+        filter.doFilter(request("/todos", 1L, "key-1"), retried, createTodo(201));
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(201, retried.getStatus());
+        assertEquals("{\"id\":1}", retried.getContentAsString());
+        assertEquals("application/json", retried.getContentType());
+        assertEquals("true", retried.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals("{\"id\":1}", first.getContentAsString());
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void 동시에_온_중복_요청은_처음_요청이_끝나기를_기다려_같은_응답을_받는다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> firstRequest = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request("/todos/1/comments", 1L, "key-1"), new MockHttpServletResponse(), (req, res) -> {
+                    started.countDown();
+                    await(release);
+                    createTodo(200).doFilter(req, res);
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        MockHttpServletResponse duplicate = new MockHttpServletResponse();
+        CompletableFuture<Void> duplicateRequest = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request("/todos/1/comments", 1L, "key-1"), duplicate, createTodo(200));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        release.countDown();
+        firstRequest.get(5, TimeUnit.SECONDS);
+        duplicateRequest.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals("{\"id\":1}", duplicate.getContentAsString());
+        assertEquals("true", duplicate.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void 서버_오류로_끝난_요청은_저장하지_않아_다시_처리된다() throws Exception {
+        // given - 날씨 조회 실패, 댓글 대기열 초과처럼 저장된 것이 없는 5xx
+        filter.doFilter(request("/todos/1/managers", 1L, "key-1"), new MockHttpServletResponse(), createTodo(500));
+
+        // when
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+        filter.doFilter(request("/todos/1/managers", 1L, "key-1"), retried, createTodo(201));
+
+        // then
+        assertEquals(2, executions.get());
+        assertEquals(201, retried.getStatus());
+        assertNull(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void 클라이언트_오류_응답은_저장해서_다시_내려보낸다() throws Exception {
+        // given
+        filter.doFilter(request("/todos/1/managers", 1L, "key-1"), new MockHttpServletResponse(), createTodo(400));
+
+        // when
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+        filter.doFilter(request("/todos/1/managers", 1L, "key-1"), retried, createTodo(201));
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(400, retried.getStatus());
+        assertEquals("true", retried.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void 예외로_끝난_요청은_저장하지_않아_다시_처리된다() throws Exception {
+        // given
+        assertThrows(IllegalStateException.class, () ->
+                filter.doFilter(request("/todos/1/managers", 1L, "key-1"), new MockHttpServletResponse(), (req, res) -> {
+                    executions.incrementAndGet();
+                    throw new IllegalStateException("rollback");
+                }));
+
+        // when
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+        filter.doFilter(request("/todos/1/managers", 1L, "key-1"), retried, createTodo(201));
+
+        // then
+        assertEquals(2, executions.get());
+        assertEquals(201, retried.getStatus());
+        assertNull(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void 저장된_응답의_헤더도_다시_내려보내되_이번_요청에_붙은_헤더는_그대로_둔다() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        first.setHeader("X-RateLimit-Remaining", "9");
+        filter.doFilter(request("/todos", 1L, "key-1"), first, createTodo(201));
+
+        // when
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+        retried.setHeader("X-RateLimit-Remaining", "8");
+        filter.doFilter(request("/todos", 1L, "key-1"), retried, createTodo(201));
+
+        // then
+        assertEquals("/todos/1", retried.getHeader("Location"));
+        assertEquals("8", retried.getHeader("X-RateLimit-Remaining"));
+    }
+
+    @Test
+    void 같은_key_로_본문이_다른_요청을_보내면_422를_반환한다() throws Exception {
+        // given
+        MockHttpServletRequest first = request("/todos", 1L, "key-1");
+        first.setContent("{\"title\":\"a\"}".getBytes(StandardCharsets.UTF_8));
+        filter.doFilter(first, new MockHttpServletResponse(), createTodo(201));
+
+        // when
+        MockHttpServletRequest changed = request("/todos", 1L, "key-1");
+        changed.setContent("{\"title\":\"b\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(changed, response, createTodo(201));
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    void 미리_읽은_본문을_뒤쪽에서_다시_읽을_수_있다() throws Exception {
+        // given
+        MockHttpServletRequest request = request("/todos", 1L, "key-1");
+        request.setContent("{\"title\":\"a\"}".getBytes(StandardCharsets.UTF_8));
+        String[] read = new String[1];
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> read[0] = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+        // then
+        assertEquals("{\"title\":\"a\"}", read[0]);
+    }
+
+    @Test
+    void 다른_사용자의_같은_key_는_따로_처리된다() throws Exception {
+        // given
+        filter.doFilter(request("/todos", 1L, "key-1"), new MockHttpServletResponse(), createTodo(201));
+
+        // when
+        filter.doFilter(request("/todos", 2L, "key-1"), new MockHttpServletResponse(), createTodo(201));
+
+        // then
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void 같은_key_를_다른_요청에_쓰면_422를_반환한다() throws Exception {
+        // given
+        filter.doFilter(request("/todos", 1L, "key-1"), new MockHttpServletResponse(), createTodo(201));
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/todos/1/comments", 1L, "key-1"), response, createTodo(201));
+
+        // then
+        assertEquals(1, executions.get());
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    void Idempotency_Key_가_없으면_매번_처리한다() throws Exception {
+        // given
+        MockHttpServletRequest request = request("/todos", 1L, null);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), createTodo(201));
+        filter.doFilter(request("/todos", 1L, null), new MockHttpServletResponse(), createTodo(201));
+
+        // then
+        assertEquals(2, executions.get());
+    }
+
+    private MockHttpServletRequest request(String uri, Long userId, String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setAttribute("userId", userId);
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        return request;
+    }
+
+    private FilterChain createTodo(int status) {
+        return (req, res) -> {
+            int id = executions.incrementAndGet();
+            res.setContentType("application/json");
+            ((HttpServletResponse) res).setStatus(status);
+            ((HttpServletResponse) res).setHeader("Location", "/todos/" + id);
+            res.getWriter().write("{\"id\":" + id + "}");
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.expert.config.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private final long[] now = {0};
+    private final IdempotencyStore store = new IdempotencyStore(2, 100, 1000, () -> now[0]);
+
+    @Test
+    void 처리_중인_key_는_TTL_과_상관없이_남아_있다() {
+        // given
+        IdempotencyKey key = new IdempotencyKey(1L, "key-1");
+        store.reserve(key, "POST /todos");
+        now[0] = 1_000;
+
+        // when
+        store.purgeExpired();
+        IdempotencyStore.Reservation reservation = store.reserve(key, "POST /todos");
+
+        // then
+        assertFalse(reservation.owner());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void 처리를_마친_key_는_TTL_이_지나면_지워진다() {
+        // given
+        IdempotencyKey key = new IdempotencyKey(1L, "key-1");
+        IdempotencyStore.Reservation first = store.reserve(key, "POST /todos");
+        store.complete(first.entry(), new StoredResponse(200, null, Map.of(), new byte[0]));
+
+        // when
+        now[0] = 99;
+        store.purgeExpired();
+        int sizeBeforeTtl = store.size();
+        now[0] = 100;
+        store.purgeExpired();
+
+        // then
+        assertEquals(1, sizeBeforeTtl);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void 만료됐지만_아직_지워지지_않은_key_는_새_요청이_다시_선점한다() {
+        // given
+        IdempotencyKey key = new IdempotencyKey(1L, "key-1");
+        store.complete(store.reserve(key, "POST /todos").entry(), new StoredResponse(200, null, Map.of(), new byte[0]));
+        now[0] = 100;
+
+        // when
+        IdempotencyStore.Reservation reservation = store.reserve(key, "POST /todos");
+
+        // then
+        assertTrue(reservation.owner());
+    }
+
+    @Test
+    void 가득_차면_만료된_key_를_지우고_그래도_자리가_없으면_null_을_돌려준다() {
+        // given
+        store.complete(store.reserve(new IdempotencyKey(1L, "a"), "POST /todos").entry(), new StoredResponse(200, null, Map.of(), new byte[0]));
+        store.reserve(new IdempotencyKey(1L, "b"), "POST /todos");
+        now[0] = 100;
+
+        // when
+        IdempotencyStore.Reservation afterPurge = store.reserve(new IdempotencyKey(1L, "c"), "POST /todos");
+        IdempotencyStore.Reservation full = store.reserve(new IdempotencyKey(1L, "d"), "POST /todos");
+
+        // then
+        assertTrue(afterPurge.owner());
+        assertNull(full);
+    }
+}
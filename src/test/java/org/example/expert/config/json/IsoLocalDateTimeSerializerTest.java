@@ -0,0 +1,59 @@
+package org.example.expert.config.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper defaultMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper isoMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule().addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2024-01-31T09:05:00",
+            "2024-12-01T23:59:59.5",
+            "2024-06-15T00:00:00.123",
+            "2024-06-15T12:34:56.123456",
+            "2024-06-15T12:34:56.000000001",
+            "0001-01-01T00:00:00",
+            "9999-12-31T23:59:59.999999999",
+            "+10000-01-01T00:00:00",
+            "-0001-01-01T00:00:00"
+    })
+    void 기본_serializer_와_같은_문자열을_쓴다(String text) throws Exception {
+        // given
+        LocalDateTime value = LocalDateTime.parse(text);
+
+        // when
+        String json = isoMapper.writeValueAsString(value);
+
+        // then
+        assertEquals(defaultMapper.writeValueAsString(value), json);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-01-31T09:05:00", "2024-06-15T12:34:56.123456"})
+    void timestamp_로_쓰도록_설정하면_기본_serializer_와_같이_배열로_쓴다(String text) throws Exception {
+        // given
+        LocalDateTime value = LocalDateTime.parse(text);
+
+        // when
+        String json = isoMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(value);
+
+        // then
+        assertEquals(defaultMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(value), json);
+    }
+}
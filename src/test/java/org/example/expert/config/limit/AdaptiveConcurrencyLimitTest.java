@@ -0,0 +1,105 @@
+package org.example.expert.config.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT_10_MS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long RTT_100_MS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void 한도만큼_처리_중이면_다음_요청은_거절된다() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0, 1, () -> 0L);
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        // when
+        boolean acquired = limit.tryAcquire();
+
+        // then
+        assertFalse(acquired);
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    void 응답_시간이_그대로면_한도를_늘린다() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 0, 10, () -> 0L);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            runWindow(limit, RTT_10_MS);
+        }
+
+        // then
+        assertTrue(limit.getLimit() > 20);
+    }
+
+    @Test
+    void 응답_시간이_늘어나면_한도를_줄인다() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 4, 100, 0, 10, () -> 0L);
+        for (int i = 0; i < 5; i++) {
+            runWindow(limit, RTT_10_MS);
+        }
+        int before = limit.getLimit();
+
+        // when
+        runWindow(limit, RTT_100_MS);
+        runWindow(limit, RTT_100_MS);
+
+        // then
+        assertTrue(limit.getLimit() < before * 3 / 4, () -> before + " -> " + limit.getLimit());
+        assertTrue(limit.getLimit() >= 4);
+    }
+
+    @Test
+    void 한도의_절반도_쓰지_않으면_한도를_늘리지_않는다() {
+        // given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 1, 100, 0, 1, () -> 0L);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(RTT_10_MS);
+        }
+
+        // then
+        assertEquals(40, limit.getLimit());
+    }
+
+    @Test
+    void 창이_지나기_전에는_한도를_바꾸지_않는다() {
+        // given
+        long[] now = {0};
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 1, 100, TimeUnit.SECONDS.toNanos(1), 1, () -> now[0]);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            runWindow(limit, RTT_10_MS);
+        }
+        int beforeWindow = limit.getLimit();
+        now[0] = TimeUnit.SECONDS.toNanos(1);
+        runWindow(limit, RTT_10_MS);
+
+        // then
+        assertEquals(40, beforeWindow);
+        assertTrue(limit.getLimit() > 40);
+    }
+
+    // 현재 한도만큼 동시에 받아서 모두 같은 응답 시간으로 끝냅니다.
+    private void runWindow(AdaptiveConcurrencyLimit limit, long rttNanos) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(rttNanos);
+        }
+    }
+}
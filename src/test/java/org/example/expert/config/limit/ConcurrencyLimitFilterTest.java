@@ -0,0 +1,92 @@
+package org.example.expert.config.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Map<TrafficClass, AdaptiveConcurrencyLimit> limits;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limits = new EnumMap<>(TrafficClass.class);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            limits.put(trafficClass, new AdaptiveConcurrencyLimit(1, 1, 1, 0, 1, () -> 0L));
+        }
+        filter = new ConcurrencyLimitFilter(meterRegistry, limits, 2, true);
+    }
+
+    @Test
+    void 한도를_넘는_요청은_503과_Retry_After로_바로_거절된다() throws Exception {
+        // given
+        limits.get(TrafficClass.DEFAULT).tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, chain);
+
+        // then
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"code\":503"));
+        assertNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.get("http.server.concurrency.rejected").tag("traffic", "default").counter().count());
+    }
+
+    @Test
+    void 일반_요청이_한도에_걸려도_auth와_admin_요청은_처리된다() throws Exception {
+        // given
+        limits.get(TrafficClass.DEFAULT).tryAcquire();
+        MockHttpServletResponse authResponse = new MockHttpServletResponse();
+        MockHttpServletResponse adminResponse = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("POST", "/auth/signin"), authResponse, new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("GET", "/admin/audit-logs"), adminResponse, new MockFilterChain());
+
+        // then
+        assertEquals(200, authResponse.getStatus());
+        assertEquals(200, adminResponse.getStatus());
+    }
+
+    @Test
+    void 처리가_끝나면_자리를_반납한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            assertEquals(1.0, meterRegistry.get("http.server.concurrency.in.flight").tag("traffic", "default").gauge().value());
+        });
+
+        // then
+        assertEquals(0, limits.get(TrafficClass.DEFAULT).getInFlight());
+        assertEquals(1.0, meterRegistry.get("http.server.concurrency.limit").tag("traffic", "default").gauge().value());
+    }
+
+    @Test
+    void health_check는_한도와_상관없이_처리된다() throws Exception {
+        // given
+        limits.get(TrafficClass.ADMIN).tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, new MockFilterChain());
+
+        // then
+        assertEquals(200, response.getStatus());
+    }
+}
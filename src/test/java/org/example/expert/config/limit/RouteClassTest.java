@@ -0,0 +1,24 @@
+package org.example.expert.config.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteClassTest {
+
+    @Test
+    void GET_과_HEAD_만_read_로_분류한다() {
+        // when & then
+        assertEquals(RouteClass.READ, RouteClass.of("GET", "/todos"));
+        assertEquals(RouteClass.READ, RouteClass.of("HEAD", "/todos"));
+        assertEquals(RouteClass.WRITE, RouteClass.of("OPTIONS", "/todos"));
+        assertEquals(RouteClass.WRITE, RouteClass.of("POST", "/todos"));
+    }
+
+    @Test
+    void admin_과_actuator_는_method_와_상관없이_admin_으로_분류한다() {
+        // when & then
+        assertEquals(RouteClass.ADMIN, RouteClass.of("GET", "/admin/users"));
+        assertEquals(RouteClass.ADMIN, RouteClass.of("GET", "/actuator/prometheus"));
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.expert.config.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserRateLimiterTest {
+
+    private final long[] now = {TimeUnit.SECONDS.toNanos(100)};
+    private SimpleMeterRegistry meterRegistry;
+    private Map<RouteClass, RateLimitRule> rules;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rules = new EnumMap<>(RouteClass.class);
+        rules.put(RouteClass.READ, new RateLimitRule(10, 3));
+        rules.put(RouteClass.WRITE, new RateLimitRule(1, 1));
+        rules.put(RouteClass.ADMIN, new RateLimitRule(1, 1));
+    }
+
+    @Test
+    void burst_만큼은_바로_허용하고_그다음은_거절한다() {
+        // given
+        UserRateLimiter limiter = limiter(1024);
+
+        // when
+        RateLimitResult first = limiter.tryAcquire(1L, RouteClass.READ);
+        limiter.tryAcquire(1L, RouteClass.READ);
+        RateLimitResult third = limiter.tryAcquire(1L, RouteClass.READ);
+        RateLimitResult fourth = limiter.tryAcquire(1L, RouteClass.READ);
+
+        // then
+        assertTrue(first.allowed());
+        assertEquals(3, first.limit());
+        assertEquals(2, first.remaining());
+        assertTrue(third.allowed());
+        assertEquals(0, third.remaining());
+        assertFalse(fourth.allowed());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), fourth.retryAfterNanos());
+        assertEquals(1.0, meterRegistry.get("http.server.requests.rate.limited").tag("route", "read").counter().count());
+    }
+
+    @Test
+    void 시간이_지나면_초당_허용_수만큼_다시_채워진다() {
+        // given
+        UserRateLimiter limiter = limiter(1024);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(1L, RouteClass.READ);
+        }
+
+        // when
+        now[0] += TimeUnit.MILLISECONDS.toNanos(100);
+        RateLimitResult refilled = limiter.tryAcquire(1L, RouteClass.READ);
+        RateLimitResult exhausted = limiter.tryAcquire(1L, RouteClass.READ);
+
+        // then
+        assertTrue(refilled.allowed());
+        assertFalse(exhausted.allowed());
+    }
+
+    @Test
+    void 사용자와_요청_분류마다_bucket_이_따로다() {
+        // given
+        UserRateLimiter limiter = limiter(1024);
+        limiter.tryAcquire(1L, RouteClass.WRITE);
+
+        // when
+        RateLimitResult sameUserWrite = limiter.tryAcquire(1L, RouteClass.WRITE);
+        RateLimitResult sameUserRead = limiter.tryAcquire(1L, RouteClass.READ);
+        RateLimitResult otherUserWrite = limiter.tryAcquire(2L, RouteClass.WRITE);
+
+        // then
+        assertFalse(sameUserWrite.allowed());
+        assertTrue(sameUserRead.allowed());
+        assertTrue(otherUserWrite.allowed());
+    }
+
+    @Test
+    void 테이블이_최근_사용자로_가득_차면_제한하지_않고_통과시킨다() {
+        // given
+        UserRateLimiter limiter = limiter(8);
+        for (long userId = 1; userId <= 8; userId++) {
+            limiter.tryAcquire(userId, RouteClass.WRITE);
+        }
+
+        // when
+        RateLimitResult result = limiter.tryAcquire(9L, RouteClass.WRITE);
+
+        // then
+        assertTrue(result.allowed());
+        assertEquals(1.0, meterRegistry.get("rate.limit.table.overflow").counter().count());
+    }
+
+    @Test
+    void idle_시간이_지난_칸은_다른_사용자가_가져간다() {
+        // given
+        UserRateLimiter limiter = limiter(8);
+        for (long userId = 1; userId <= 8; userId++) {
+            limiter.tryAcquire(userId, RouteClass.WRITE);
+        }
+        now[0] += TimeUnit.SECONDS.toNanos(61);
+
+        // when
+        limiter.tryAcquire(9L, RouteClass.WRITE);
+        RateLimitResult result = limiter.tryAcquire(9L, RouteClass.WRITE);
+
+        // then
+        assertFalse(result.allowed());
+        assertEquals(0.0, meterRegistry.get("rate.limit.table.overflow").counter().count());
+    }
+
+    private UserRateLimiter limiter(int tableSize) {
+        return new UserRateLimiter(meterRegistry, true, tableSize, rules, TimeUnit.SECONDS.toNanos(60), () -> now[0]);
+    }
+}
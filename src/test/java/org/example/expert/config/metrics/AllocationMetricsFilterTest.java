@@ -0,0 +1,80 @@
+package org.example.expert.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationMetricsFilterTest {
+
+    private static final int ALLOCATION = 4 * 1024 * 1024;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void 샘플링된_요청의_할당_바이트가_handler_태그로_기록된다() throws Exception {
+        // given
+        AllocationMetricsFilter filter = new AllocationMetricsFilter(meterRegistry, 1.0, Long.MAX_VALUE);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        HandlerMethod handlerMethod = new HandlerMethod(
+                new TodoController(null), TodoController.class.getMethod("getTodos", int.class, int.class));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+            byte[] buffer = new byte[ALLOCATION];
+            req.setAttribute("buffer", buffer);
+        });
+
+        // then
+        DistributionSummary allocated = meterRegistry.get("http.server.requests.allocated")
+                .tag("handler", "TodoController.getTodos").summary();
+        assertEquals(1, allocated.count());
+        assertTrue(allocated.totalAmount() >= ALLOCATION);
+    }
+
+    @Test
+    void 샘플링되지_않은_요청은_기록하지_않는다() throws Exception {
+        // given
+        AllocationMetricsFilter filter = new AllocationMetricsFilter(meterRegistry, 0, 0);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then
+        assertNull(meterRegistry.find("http.server.requests.allocated").summary());
+    }
+
+    @Test
+    void 가상_스레드에서_처리한_요청은_할당량을_잴_수_없어_기록하지_않는다() throws Exception {
+        // given
+        AllocationMetricsFilter filter = new AllocationMetricsFilter(meterRegistry, 1.0, Long.MAX_VALUE);
+
+        // when
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/todos"), new MockHttpServletResponse(), (req, res) ->
+                        req.setAttribute("buffer", new byte[ALLOCATION]));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.join();
+
+        // then
+        assertNull(meterRegistry.find("http.server.requests.allocated").summary());
+    }
+}
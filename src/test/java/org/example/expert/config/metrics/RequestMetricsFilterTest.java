@@ -0,0 +1,96 @@
+package org.example.expert.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcMetricsListener jdbcMetricsListener;
+    private RequestMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jdbcMetricsListener = new JdbcMetricsListener(meterRegistry);
+        filter = new RequestMetricsFilter(meterRegistry);
+    }
+
+    @Test
+    void 요청_중_실행된_JDBC_statement_수가_handler_태그로_기록된다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        HandlerMethod handlerMethod = new HandlerMethod(
+                new TodoController(null), TodoController.class.getMethod("getTodos", int.class, int.class));
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+            executeQuery("select * from todos");
+            executeQuery("select count(*) from todos");
+        });
+
+        // then
+        DistributionSummary statements = meterRegistry.get("http.server.requests.jdbc.statements")
+                .tag("handler", "TodoController.getTodos").summary();
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+        Timer selects = meterRegistry.get("jdbc.statements").tag("type", "select").timer();
+        assertEquals(2, selects.count());
+    }
+
+    @Test
+    void handler_가_없는_요청은_none_으로_기록되고_요청_밖의_JDBC_는_요청에_합산되지_않는다() throws Exception {
+        // given
+        executeQuery("select 1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then
+        DistributionSummary statements = meterRegistry.get("http.server.requests.jdbc.statements")
+                .tag("handler", HandlerNames.NONE).summary();
+        assertEquals(0, statements.totalAmount());
+        assertNull(meterRegistry.find("http.server.requests.bcrypt.time").timer());
+    }
+
+    @Test
+    void 요청_중_BCrypt_시간이_기록된다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signin");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> RequestMetricsContext.recordBcrypt(5_000_000, 1_000_000));
+
+        // then
+        Timer bcrypt = meterRegistry.get("http.server.requests.bcrypt.time").timer();
+        Timer wait = meterRegistry.get("http.server.requests.bcrypt.wait").timer();
+        assertEquals(5, bcrypt.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, wait.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    private void executeQuery(String sql) {
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        jdbcMetricsListener.beforeQuery(executionInfo, queries);
+        jdbcMetricsListener.afterQuery(executionInfo, queries);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.config.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    @Test
+    void 켜져_있으면_구간별_시간이_Server_Timing_헤더로_내려간다() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(true, 0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, (req, res) -> {
+            ServerTiming.add(ServerTiming.Phase.DB, 1_500_000);
+            ServerTiming.add(ServerTiming.Phase.DB, 2_000_000);
+            ServerTiming.stop(ServerTiming.Phase.JSON, ServerTiming.start());
+            res.getWriter().write("{}");
+        });
+
+        // then
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("db;dur=3.500;desc=\"JDBC x2\", json;dur="));
+        assertTrue(header.contains("total;dur="));
+        assertFalse(header.contains("weather"));
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    void 요청_밖에서_기록한_시간은_다음_요청에_섞이지_않는다() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(true, 0);
+        ServerTiming.add(ServerTiming.Phase.WEATHER, 5_000_000);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, (req, res) -> {
+        });
+
+        // then
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).startsWith("total;dur="));
+    }
+
+    @Test
+    void 꺼져_있으면_헤더를_붙이지_않고_구간도_기록하지_않는다() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(false, 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, (req, res) -> {
+            assertEquals(0, ServerTiming.start());
+            res.getWriter().write("{}");
+        });
+
+        // then
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    void 꺼진_filter_를_새로_만들어도_켜진_filter_에는_영향이_없다() throws Exception {
+        // given - 같은 JVM 의 다른 컨텍스트에서 꺼진 filter 가 만들어진 경우
+        ServerTimingFilter enabledFilter = new ServerTimingFilter(true, 0);
+        new ServerTimingFilter(false, 0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        enabledFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, (req, res) ->
+                ServerTiming.add(ServerTiming.Phase.WEATHER, 1_000_000));
+
+        // then
+        assertTrue(response.getHeader(ServerTimingFilter.HEADER).startsWith("weather;dur=1.000"));
+        assertEquals(0, ServerTiming.start());
+    }
+}
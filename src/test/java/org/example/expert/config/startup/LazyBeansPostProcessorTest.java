@@ -0,0 +1,117 @@
+package org.example.expert.config.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LazyBeansPostProcessorTest {
+
+    private static final AtomicInteger CREATED = new AtomicInteger();
+
+    @Test
+    void 지정한_빈은_주입되어도_처음_호출될_때_만들어진다() {
+        // given
+        CREATED.set(0);
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.addBeanFactoryPostProcessor(new LazyBeansPostProcessor(List.of("heavyClient", "unknownBean")));
+            context.registerBean("heavyClient", HeavyClient.class);
+            context.registerBean("service", Service.class);
+
+            // when
+            context.refresh();
+            int createdAtStartup = CREATED.get();
+            String result = context.getBean(Service.class).call();
+
+            // then
+            assertEquals(0, createdAtStartup);
+            assertEquals("called", result);
+            assertEquals(1, CREATED.get());
+        }
+    }
+
+    @Test
+    void 지정하지_않은_빈은_시작할_때_만들어진다() {
+        // given
+        CREATED.set(0);
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.addBeanFactoryPostProcessor(new LazyBeansPostProcessor(List.of()));
+            context.registerBean("heavyClient", HeavyClient.class);
+            context.registerBean("service", Service.class);
+
+            // when
+            context.refresh();
+
+            // then
+            assertEquals(1, CREATED.get());
+        }
+    }
+
+    @Test
+    void 기존_resolver_의_주입_규칙을_그대로_쓴다() {
+        // given
+        CREATED.set(0);
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getDefaultListableBeanFactory().setAutowireCandidateResolver(new ContextAnnotationAutowireCandidateResolver() {
+                @Override
+                public Object getSuggestedValue(DependencyDescriptor descriptor) {
+                    return descriptor.getDependencyType() == String.class ? "suggested" : super.getSuggestedValue(descriptor);
+                }
+            });
+            context.addBeanFactoryPostProcessor(new LazyBeansPostProcessor(List.of("heavyClient")));
+            context.registerBean("heavyClient", HeavyClient.class);
+            context.registerBean("greeter", Greeter.class);
+
+            // when
+            context.refresh();
+
+            // then
+            assertEquals("suggested:called", context.getBean(Greeter.class).greet());
+            assertEquals(1, CREATED.get());
+        }
+    }
+
+    static class HeavyClient {
+
+        HeavyClient() {
+            CREATED.incrementAndGet();
+        }
+
+        String call() {
+            return "called";
+        }
+    }
+
+    static class Service {
+
+        private final HeavyClient heavyClient;
+
+        Service(HeavyClient heavyClient) {
+            this.heavyClient = heavyClient;
+        }
+
+        String call() {
+            return heavyClient.call();
+        }
+    }
+
+    static class Greeter {
+
+        private final String greeting;
+        private final HeavyClient heavyClient;
+
+        Greeter(String greeting, HeavyClient heavyClient) {
+            this.greeting = greeting;
+            this.heavyClient = heavyClient;
+        }
+
+        String greet() {
+            return greeting + ":" + heavyClient.call();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.domain.aop;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class RepositoryJfrRecordingTest {
+
+    private static final String EVENT_NAME = "org.example.expert.RepositoryCall";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void repository_호출이_메서드_JPQL_row_수와_함께_JFR_이벤트로_남는다() throws Exception {
+        // given
+        TodoRepository todoRepository = proxy(mock(TodoRepository.class));
+        Pageable pageable = PageRequest.of(0, 10);
+        given(todoRepository.findAllByOrderByModifiedAtDesc(any()))
+                .willReturn(new PageImpl<>(List.of(new Todo(), new Todo()), pageable, 2));
+        given(todoRepository.findById(any())).willReturn(Optional.empty());
+
+        // when
+        List<RecordedEvent> events = record(() -> {
+            todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+            todoRepository.findById(1L);
+        });
+
+        // then
+        assertEquals(2, events.size());
+        RecordedEvent page = events.get(0);
+        assertEquals("TodoRepository.findAllByOrderByModifiedAtDesc", page.getString("method"));
+        assertTrue(page.getString("jpql").startsWith("SELECT t FROM Todo t"));
+        assertEquals(2, page.getLong("rowCount"));
+        RecordedEvent byId = events.get(1);
+        assertEquals("TodoRepository.findById", byId.getString("method"));
+        assertNull(byId.getString("jpql"));
+        assertEquals(0, byId.getLong("rowCount"));
+    }
+
+    @Test
+    void 녹화_중이_아니면_이벤트_없이_그대로_호출된다() {
+        // given
+        TodoRepository todoRepository = proxy(mock(TodoRepository.class));
+        given(todoRepository.countById(1L)).willReturn(1);
+
+        // when
+        int count = todoRepository.countById(1L);
+
+        // then
+        assertEquals(1, count);
+    }
+
+    @Test
+    void 결과_종류별로_row_수를_센다() {
+        assertEquals(0, RepositoryJfrRecording.rowCount(null, false));
+        assertEquals(3, RepositoryJfrRecording.rowCount(List.of(1, 2, 3), false));
+        assertEquals(1, RepositoryJfrRecording.rowCount(Optional.of(new Todo()), false));
+        assertEquals(5, RepositoryJfrRecording.rowCount(5, true));
+        assertEquals(3, RepositoryJfrRecording.rowCount(new int[]{1, 2, -2}, true));
+        assertEquals(1, RepositoryJfrRecording.rowCount(new Todo(), false));
+    }
+
+    @Test
+    void count_쿼리는_센_값이_아니라_조회한_row_1개로_남는다() throws Exception {
+        // given
+        TodoRepository todoRepository = proxy(mock(TodoRepository.class));
+        given(todoRepository.countById(1L)).willReturn(42);
+
+        // when
+        List<RecordedEvent> events = record(() -> todoRepository.countById(1L));
+
+        // then
+        assertEquals(1, events.size());
+        assertEquals("TodoRepository.countById", events.get(0).getString("method"));
+        assertEquals(1, events.get(0).getLong("rowCount"));
+    }
+
+    private TodoRepository proxy(TodoRepository target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RepositoryJfrRecording());
+        return factory.getProxy();
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = tempDir.resolve("repository.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                .toList();
+    }
+}
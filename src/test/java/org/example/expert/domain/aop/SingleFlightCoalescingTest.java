@@ -0,0 +1,261 @@
+package org.example.expert.domain.aop;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.datasource.ReadYourWritesTracker;
+import org.example.expert.domain.common.annotation.SingleFlight;
+import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightCoalescingTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadYourWritesTracker readYourWrites = new ReadYourWritesTracker(2000, Optional.empty());
+
+    @Test
+    void 동시에_들어온_같은_조회는_한_번만_실행하고_결과를_나눠_받는다() throws Exception {
+        // given
+        TodoReader reader = new TodoReader();
+        TodoReader proxy = proxy(reader);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> proxy.getTodo(1L));
+        assertTrue(reader.started.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> proxy.getTodo(1L));
+        awaitCoalesced(1);
+        reader.release.countDown();
+
+        // then
+        assertEquals("todo-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-1", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, reader.executions.get());
+        assertEquals(1.0, count("executed"));
+    }
+
+    @Test
+    void 인자가_다르면_따로_실행한다() throws Exception {
+        // given
+        TodoReader reader = new TodoReader();
+        TodoReader proxy = proxy(reader);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> proxy.getTodo(1L));
+        assertTrue(reader.started.await(5, TimeUnit.SECONDS));
+
+        // when
+        reader.release.countDown();
+        String second = proxy.getTodo(2L);
+
+        // then
+        assertEquals("todo-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-2", second);
+        assertEquals(2, reader.executions.get());
+        assertEquals(0.0, count("coalesced"));
+    }
+
+    @Test
+    void 실행이_끝난_뒤에_들어온_조회는_다시_실행한다() {
+        // given
+        TodoReader reader = new TodoReader();
+        reader.release.countDown();
+        TodoReader proxy = proxy(reader);
+        proxy.getTodo(1L);
+
+        // when
+        proxy.getTodo(1L);
+
+        // then
+        assertEquals(2, reader.executions.get());
+    }
+
+    @Test
+    void 실행_중_예외는_기다리던_요청이_각자_다시_실행해서_자기_예외를_받는다() throws Exception {
+        // given
+        TodoReader reader = new TodoReader();
+        TodoReader proxy = proxy(reader);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> proxy.getTodo(404L));
+        assertTrue(reader.started.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> proxy.getTodo(404L));
+        awaitCoalesced(1);
+        reader.release.countDown();
+
+        // then
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InvalidRequestException.class, leaderError.getCause());
+        assertInstanceOf(InvalidRequestException.class, followerError.getCause());
+        assertNotSame(leaderError.getCause(), followerError.getCause());
+        assertEquals(2, reader.executions.get());
+    }
+
+    @Test
+    void 실행_중인_조회가_시작된_뒤에_쓰기를_commit_한_사용자는_합류하지_않고_새로_실행한다() throws Exception {
+        // given
+        TodoReader reader = new TodoReader();
+        TodoReader proxy = proxy(reader);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> proxy.getTodo(1L));
+        assertTrue(reader.started.await(5, TimeUnit.SECONDS));
+        readYourWrites.markWrite(1L);
+
+        // when
+        CompletableFuture<String> writer = CompletableFuture.supplyAsync(() -> requestBy(1L, () -> proxy.getTodo(1L)));
+        awaitExecutions(reader, 2);
+        reader.release.countDown();
+
+        // then
+        assertEquals("todo-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-1", writer.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, count("coalesced"));
+    }
+
+    @Test
+    void 다른_사용자가_쓰기를_commit_해도_쓰지_않은_사용자는_합류한다() throws Exception {
+        // given
+        TodoReader reader = new TodoReader();
+        TodoReader proxy = proxy(reader);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> proxy.getTodo(1L));
+        assertTrue(reader.started.await(5, TimeUnit.SECONDS));
+        readYourWrites.markWrite(2L);
+
+        // when
+        CompletableFuture<String> reader1 = CompletableFuture.supplyAsync(() -> requestBy(1L, () -> proxy.getTodo(1L)));
+        awaitCoalesced(1);
+        reader.release.countDown();
+
+        // then
+        assertEquals("todo-1", reader1.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, reader.executions.get());
+    }
+
+    @Test
+    void 기다리는_시간이_wait_timeout_을_넘으면_직접_실행한다() throws Exception {
+        // given
+        TodoReader reader = new TodoReader();
+        TodoReader proxy = proxy(reader, 50);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> proxy.getTodo(1L));
+        assertTrue(reader.started.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> proxy.getTodo(1L));
+        awaitExecutions(reader, 2);
+        reader.release.countDown();
+
+        // then
+        assertEquals("todo-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-1", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(2.0, count("executed"));
+    }
+
+    @Test
+    void 기다리는_중_인터럽트되면_인터럽트_상태를_남기고_ServerException_을_던진다() throws Exception {
+        // given
+        TodoReader reader = new TodoReader();
+        TodoReader proxy = proxy(reader);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> proxy.getTodo(1L));
+        assertTrue(reader.started.await(5, TimeUnit.SECONDS));
+        RuntimeException[] error = new RuntimeException[1];
+        boolean[] interrupted = new boolean[1];
+        Thread follower = new Thread(() -> {
+            try {
+                proxy.getTodo(1L);
+            } catch (RuntimeException e) {
+                error[0] = e;
+                interrupted[0] = Thread.currentThread().isInterrupted();
+            }
+        });
+        follower.start();
+        awaitCoalesced(1);
+
+        // when
+        follower.interrupt();
+        follower.join(TimeUnit.SECONDS.toMillis(5));
+        reader.release.countDown();
+
+        // then
+        ServerException serverException = assertInstanceOf(ServerException.class, error[0]);
+        assertEquals(ErrorCode.SINGLE_FLIGHT_INTERRUPTED, serverException.getErrorCode());
+        assertTrue(interrupted[0]);
+        assertEquals("todo-1", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    private TodoReader proxy(TodoReader target) {
+        return proxy(target, 5000);
+    }
+
+    private TodoReader proxy(TodoReader target, long waitTimeoutMillis) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightCoalescing(meterRegistry, readYourWrites, true, waitTimeoutMillis));
+        return factory.getProxy();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("single.flight.calls").tag("endpoint", "GET /todos/{todoId}").tag("result", result).counter().count();
+    }
+
+    private void awaitCoalesced(double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find("single.flight.calls").tag("result", "coalesced").counter() == null
+                || count("coalesced") < expected) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitExecutions(TodoReader reader, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reader.executions.get() < expected) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static <T> T requestBy(Long userId, Supplier<T> call) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            return call.get();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    static class TodoReader {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger executions = new AtomicInteger();
+
+        @SingleFlight("GET /todos/{todoId}")
+        public String getTodo(long todoId) {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (todoId == 404L) {
+                throw new InvalidRequestException(ErrorCode.TODO_NOT_FOUND);
+            }
+            return "todo-" + todoId;
+        }
+    }
+}
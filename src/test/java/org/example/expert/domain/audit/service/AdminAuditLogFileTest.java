@@ -0,0 +1,118 @@
+package org.example.expert.domain.audit.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditLogFileTest {
+
+    private static final int SEGMENT_SIZE = 4 * 1024;
+    private static final String URL = "/admin/comments/";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void segment_가_가득_차면_다음_segment_로_넘어가고_오래된_segment_는_지운다() throws Exception {
+        // given
+        AdminAuditLogFile logFile = new AdminAuditLogFile(tempDir, SEGMENT_SIZE, 3, 256);
+
+        // when
+        append(logFile, 0, 1000);
+
+        // then
+        assertEquals(3, logFile.segmentCount());
+        List<AdminAuditEntry> entries = logFile.scan(0, Long.MAX_VALUE, 1000);
+        assertTrue(entries.size() < 1000);
+        assertEquals(999, entries.get(entries.size() - 1).epochMilli());
+        logFile.close();
+    }
+
+    @Test
+    void sparse_index_로_찾은_위치부터_시간_범위의_기록만_읽는다() throws Exception {
+        // given
+        AdminAuditLogFile logFile = new AdminAuditLogFile(tempDir, 1024 * 1024, 2, 128);
+        append(logFile, 0, 500);
+
+        // when
+        List<AdminAuditEntry> entries = logFile.scan(200, 209, 100);
+
+        // then
+        assertEquals(10, entries.size());
+        assertEquals(200, entries.get(0).epochMilli());
+        assertEquals(URL + 200, entries.get(0).url());
+        assertEquals(209, entries.get(9).epochMilli());
+        logFile.close();
+    }
+
+    @Test
+    void 앞_기록보다_이른_시각은_앞_기록_시각으로_맞춰_순서를_유지한다() throws Exception {
+        // given
+        AdminAuditLogFile logFile = new AdminAuditLogFile(tempDir, SEGMENT_SIZE, 2, 256);
+        AdminAuditBatch batch = new AdminAuditBatch(4);
+        batch.add(1, 100, AdminAuditMethods.encode("GET"), URL, AdminAuditOutcome.SUCCESS.code(), 0);
+        batch.add(1, 90, AdminAuditMethods.encode("GET"), URL, AdminAuditOutcome.SUCCESS.code(), 0);
+        batch.sortByTime();
+        logFile.append(batch);
+        batch.clear();
+        batch.add(1, 95, AdminAuditMethods.encode("GET"), URL, AdminAuditOutcome.SUCCESS.code(), 0);
+        batch.sortByTime();
+
+        // when
+        logFile.append(batch);
+
+        // then
+        List<AdminAuditEntry> entries = logFile.scan(0, Long.MAX_VALUE, 10);
+        assertEquals(List.of(90L, 100L, 100L), entries.stream().map(AdminAuditEntry::epochMilli).toList());
+        logFile.close();
+    }
+
+    @Test
+    void 다시_열면_기존_기록을_읽고_이어서_쓴다() throws Exception {
+        // given
+        AdminAuditLogFile logFile = new AdminAuditLogFile(tempDir, SEGMENT_SIZE, 4, 256);
+        append(logFile, 0, 50);
+        logFile.close();
+
+        // when
+        AdminAuditLogFile reopened = new AdminAuditLogFile(tempDir, SEGMENT_SIZE, 4, 256);
+        append(reopened, 50, 60);
+
+        // then
+        List<AdminAuditEntry> entries = reopened.scan(0, Long.MAX_VALUE, 100);
+        assertEquals(60, entries.size());
+        assertEquals(0, entries.get(0).epochMilli());
+        assertEquals(59, entries.get(59).epochMilli());
+        assertEquals(AdminAuditOutcome.SUCCESS, entries.get(0).outcome());
+        assertEquals("DELETE", entries.get(0).method());
+        reopened.close();
+    }
+
+    @Test
+    void 같은_디렉터리를_동시에_열_수_없다() throws Exception {
+        // given
+        AdminAuditLogFile logFile = new AdminAuditLogFile(tempDir, SEGMENT_SIZE, 2, 256);
+
+        // when & then
+        assertThrows(Exception.class, () -> new AdminAuditLogFile(tempDir, SEGMENT_SIZE, 2, 256));
+        logFile.close();
+    }
+
+    private static void append(AdminAuditLogFile logFile, int fromMillis, int toMillis) throws Exception {
+        AdminAuditBatch batch = new AdminAuditBatch(64);
+        for (int millis = fromMillis; millis < toMillis; millis++) {
+            batch.add(1, millis, AdminAuditMethods.encode("DELETE"), URL + millis, AdminAuditOutcome.SUCCESS.code(), 1_000);
+            if (batch.size() == batch.capacity()) {
+                batch.sortByTime();
+                logFile.append(batch);
+                batch.clear();
+            }
+        }
+        batch.sortByTime();
+        logFile.append(batch);
+    }
+}
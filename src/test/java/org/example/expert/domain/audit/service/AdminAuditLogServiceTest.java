@@ -0,0 +1,99 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogResponse;
+import org.example.expert.domain.audit.dto.response.AdminAuditLogScanResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditLogServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @TempDir
+    Path tempDir;
+
+    private AdminAuditLogService adminAuditLogService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        adminAuditLogService = new AdminAuditLogService(tempDir.toString(), 64 * 1024, 4, 256, 64, 16,
+                60_000, false, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        adminAuditLogService.close();
+    }
+
+    @Test
+    void 기록한_감사_로그를_시간_범위로_조회할_수_있다() {
+        // given
+        adminAuditLogService.record(1L, epochMilli(BASE), "DELETE", "/admin/comments/1", AdminAuditOutcome.SUCCESS, 2_500_000);
+        adminAuditLogService.record(2L, epochMilli(BASE.plusMinutes(10)), "PATCH", "/admin/users/2", AdminAuditOutcome.FAILURE, 1_000_000);
+        adminAuditLogService.record(null, epochMilli(BASE.plusMinutes(20)), "GET", "/admin/audit-logs", AdminAuditOutcome.SUCCESS, 0);
+        adminAuditLogService.flush();
+
+        // when
+        AdminAuditLogScanResponse response = adminAuditLogService.scan(BASE.plusMinutes(5), BASE.plusMinutes(30), 10);
+
+        // then
+        assertEquals(2, response.getEntries().size());
+        assertFalse(response.isHasMore());
+        AdminAuditLogResponse first = response.getEntries().get(0);
+        assertEquals(BASE.plusMinutes(10), first.getRequestedAt());
+        assertEquals(2L, first.getUserId());
+        assertEquals("PATCH", first.getMethod());
+        assertEquals("/admin/users/2", first.getUrl());
+        assertEquals("FAILURE", first.getOutcome());
+        assertEquals(1.0, first.getDurationMillis());
+        assertNull(response.getEntries().get(1).getUserId());
+    }
+
+    @Test
+    void limit_을_넘는_기록이_있으면_hasMore_가_true_다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            adminAuditLogService.record(1L, epochMilli(BASE.plusSeconds(i)), "DELETE", "/admin/comments/" + i,
+                    AdminAuditOutcome.SUCCESS, 0);
+        }
+        adminAuditLogService.flush();
+
+        // when
+        AdminAuditLogScanResponse response = adminAuditLogService.scan(BASE, BASE.plusMinutes(1), 3);
+
+        // then
+        assertEquals(3, response.getEntries().size());
+        assertTrue(response.isHasMore());
+        assertEquals("/admin/comments/0", response.getEntries().get(0).getUrl());
+    }
+
+    @Test
+    void limit_이_범위를_벗어나면_InvalidRequestException_을_던진다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> adminAuditLogService.scan(BASE, BASE.plusMinutes(1), 0));
+        assertEquals("limit 은 1 이상 1000 이하여야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    void from_이_to_보다_늦으면_InvalidRequestException_을_던진다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> adminAuditLogService.scan(BASE.plusMinutes(1), BASE, 10));
+        assertEquals("from 은 to 보다 늦을 수 없습니다.", exception.getMessage());
+    }
+
+    private static long epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.domain.audit.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminAuditRingBufferTest {
+
+    @Test
+    void 가득_차면_기록을_버리고_꺼낸_만큼_다시_넣을_수_있다() {
+        // given
+        AdminAuditRingBuffer ringBuffer = new AdminAuditRingBuffer(2);
+        AdminAuditBatch batch = new AdminAuditBatch(8);
+
+        // when
+        assertTrue(ringBuffer.offer(1, 10, (byte) 1, "/admin/a", (byte) 0, 0));
+        assertTrue(ringBuffer.offer(2, 20, (byte) 1, "/admin/b", (byte) 0, 0));
+        assertFalse(ringBuffer.offer(3, 30, (byte) 1, "/admin/c", (byte) 0, 0));
+        int drained = ringBuffer.drainTo(batch);
+
+        // then
+        assertEquals(2, drained);
+        assertEquals(1, ringBuffer.dropped());
+        assertEquals("/admin/b", batch.url(1));
+        assertTrue(ringBuffer.offer(4, 40, (byte) 1, "/admin/d", (byte) 0, 0));
+        assertEquals(1, ringBuffer.size());
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_기록이_섞이거나_사라지지_않는다() throws Exception {
+        // given
+        int threads = 4;
+        int perThread = 10_000;
+        AdminAuditRingBuffer ringBuffer = new AdminAuditRingBuffer(1 << 16);
+        Thread[] producers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long userId = t;
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ringBuffer.offer(userId, i, (byte) 1, "/admin", (byte) 0, i);
+                }
+            });
+        }
+
+        // when
+        for (Thread producer : producers) {
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        AdminAuditBatch batch = new AdminAuditBatch(threads * perThread);
+        int drained = ringBuffer.drainTo(batch);
+
+        // then
+        assertEquals(threads * perThread, drained);
+        long[] next = new long[threads];
+        for (int i = 0; i < drained; i++) {
+            int userId = (int) batch.userId(i);
+            assertEquals(next[userId]++, batch.epochMilli(i)); // 생산자별 순서 유지
+            assertEquals(batch.epochMilli(i), batch.durationNanos(i));
+        }
+    }
+}
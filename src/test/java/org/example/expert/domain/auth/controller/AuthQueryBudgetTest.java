@@ -0,0 +1,33 @@
+package org.example.expert.domain.auth.controller;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    void 회원가입은_2개_이하의_SQL_을_실행한다() throws Exception {
+        // when & then: (bloom filter 가 있을 수도 있다고 답하면) 중복 확인 + insert
+        sqlStatementRecorder.assertAtMost(2, () -> mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"budget-signup@example.com\",\"password\":\"" + PASSWORD + "\",\"userRole\":\"USER\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 로그인은_1개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User user = saveUser();
+
+        // when & then
+        sqlStatementRecorder.assertAtMost(1, () -> mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk()));
+    }
+}
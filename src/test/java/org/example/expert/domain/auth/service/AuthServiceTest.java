@@ -11,6 +11,10 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserEmailBloomFilter;
+import org.example.expert.domain.user.service.UserEmailPrefixIndex;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,13 +24,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -40,6 +48,12 @@ public class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private UserEmailPrefixIndex userEmailPrefixIndex;
+
+    @Mock
+    private UserEmailBloomFilter userEmailBloomFilter;
+
     @InjectMocks
     private AuthService authService;
 
@@ -54,6 +68,7 @@ public class AuthServiceTest {
             User user = new User(signupRequest.getEmail(), "encodedPassword", UserRole.of(signupRequest.getUserRole()));
             ReflectionTestUtils.setField(user, "id", 1L);
 
+            given(userEmailBloomFilter.mightContain(anyString())).willReturn(true); // bloom filter 가 있을 수도 있다고 답함
             given(userRepository.existsByEmail(anyString())).willReturn(false); // 이메일 중복 없음
             given(passwordEncoder.encode(anyString())).willReturn("encodedPassword"); // 비밀번호 인코딩
             given(userRepository.save(any(User.class))).willReturn(user); // 저장된 사용자 반환 (ID가 포함된 상태)
@@ -65,6 +80,65 @@ public class AuthServiceTest {
             // then
             assertNotNull(signupResponse); // 회원가입 응답이 null이 아닌지 확인
             assertEquals("testToken", signupResponse.getBearerToken()); // 반환된 토큰이 예상한 값인지 확인
+            verify(userEmailPrefixIndex).add(1L, "test@example.com"); // 이메일 검색 인덱스에 반영
+            verify(userEmailBloomFilter).recordFalsePositive();
+            verify(userEmailBloomFilter).put("test@example.com");
+        }
+
+        @Test
+        void bloom_filter가_없다고_답하면_중복_조회를_건너뛴다() {
+            // given
+            SignupRequest signupRequest = new SignupRequest("new@example.com", "12345678!@A", "USER");
+            User user = new User(signupRequest.getEmail(), "encodedPassword", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(userEmailBloomFilter.mightContain(anyString())).willReturn(false);
+            given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+            given(userRepository.save(any(User.class))).willReturn(user);
+            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn("testToken");
+
+            // when
+            SignupResponse signupResponse = authService.signup(signupRequest);
+
+            // then
+            assertEquals("testToken", signupResponse.getBearerToken());
+            verify(userRepository, never()).existsByEmail(anyString());
+        }
+
+        @Test
+        void 동시_가입으로_unique_제약조건에_걸리면_중복_예외로_변환된다() {
+            // given
+            SignupRequest signupRequest = new SignupRequest("race@example.com", "12345678!@A", "USER");
+
+            given(userEmailBloomFilter.mightContain(anyString())).willReturn(false);
+            given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+            given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate",
+                    new ConstraintViolationException("duplicate", new SQLException(), ConstraintViolationException.ConstraintKind.UNIQUE,
+                            "PUBLIC.UK_USERS_EMAIL_INDEX_4")));
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    authService.signup(signupRequest));
+            assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+            verify(userEmailBloomFilter, never()).put(anyString());
+        }
+
+        @Test
+        void email_unique_제약조건이_아닌_무결성_오류는_중복_예외로_바꾸지_않는다() {
+            // given
+            SignupRequest signupRequest = new SignupRequest("race@example.com", "12345678!@A", "USER");
+            DataIntegrityViolationException notNullViolation = new DataIntegrityViolationException("not null",
+                    new ConstraintViolationException("not null", new SQLException(), ConstraintViolationException.ConstraintKind.OTHER,
+                            "USER_ROLE"));
+
+            given(userEmailBloomFilter.mightContain(anyString())).willReturn(false);
+            given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+            given(userRepository.save(any(User.class))).willThrow(notNullViolation);
+
+            // when & then
+            DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () ->
+                    authService.signup(signupRequest));
+            assertSame(notNullViolation, exception);
         }
 
         @Test
@@ -98,6 +172,7 @@ public class AuthServiceTest {
         void 이메일_중복() {
             // given
             SignupRequest signupRequest = new SignupRequest("test@example.com", "12345678!@A", "USER");
+            given(userEmailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(true);
             given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(true);
 
             // when & then
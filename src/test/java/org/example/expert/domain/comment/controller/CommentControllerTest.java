@@ -50,7 +50,7 @@ class CommentControllerTest {
     @BeforeEach
     public void setup() {
         mockMvc = MockMvcBuilders.standaloneSetup(new CommentController(commentService))
-                .setControllerAdvice(new GlobalExceptionHandler()) // 예외 처리 핸들러 설정
+                .setControllerAdvice(new GlobalExceptionHandler(new ObjectMapper(), false)) // 예외 처리 핸들러 설정
                 .setCustomArgumentResolvers(authUserArgumentResolver) // AuthUserArgumentResolver 설정
                 .build();
     }
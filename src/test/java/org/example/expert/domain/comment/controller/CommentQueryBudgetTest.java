@@ -0,0 +1,62 @@
+package org.example.expert.domain.comment.controller;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CommentQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    void 댓글_작성은_3개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User owner = saveUser();
+        Todo todo = saveTodo(owner);
+        String token = tokenOf(owner);
+
+        // when & then: 일정 조회 + 담당자 조회 + 댓글 insert
+        sqlStatementRecorder.assertAtMost(3, () -> mockMvc.perform(post("/todos/{todoId}/comments", todo.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"contents\":\"comment\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 댓글_목록_조회는_댓글_수와_관계없이_1개_이하의_SQL_을_실행한다() throws Exception {
+        // given: 작성자가 모두 다른 댓글
+        Todo todo = saveTodo(saveUser());
+        for (int i = 0; i < 10; i++) {
+            User writer = saveUser();
+            saveManager(todo, writer);
+            saveComment(todo, writer);
+        }
+        String token = tokenOf(saveUser());
+
+        // when & then
+        sqlStatementRecorder.assertAtMost(1, () -> mockMvc.perform(get("/todos/{todoId}/comments", todo.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 관리자의_댓글_삭제는_2개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User owner = saveUser();
+        Comment comment = saveComment(saveTodo(owner), owner);
+        String token = tokenOf(saveUser(UserRole.ADMIN));
+
+        // when & then
+        sqlStatementRecorder.assertAtMost(2, () -> mockMvc.perform(delete("/admin/comments/{commentId}", comment.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+}
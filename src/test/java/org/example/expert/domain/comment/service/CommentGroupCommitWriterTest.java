@@ -0,0 +1,186 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.PendingComment;
+import org.example.expert.domain.comment.repository.CommentBatchRepository;
+import org.example.expert.domain.common.exception.ErrorCode;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentGroupCommitWriterTest {
+
+    @Mock
+    private CommentBatchRepository commentBatchRepository;
+
+    private CommentGroupCommitWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void 여러_댓글이_한_번의_group_commit_으로_저장된다() {
+        // given
+        writer = new CommentGroupCommitWriter(commentBatchRepository, true, 100, 3, 1000, 2000);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        given(commentBatchRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return LongStream.rangeClosed(1, batch.size()).boxed().toList();
+        });
+        writer.start();
+
+        // when
+        List<PendingComment> acks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            acks.add(writer.submit("comment " + i, 1L, 1L));
+        }
+
+        // then
+        assertEquals(1L, writer.await(acks.get(0)));
+        assertEquals(2L, writer.await(acks.get(1)));
+        assertEquals(3L, writer.await(acks.get(2)));
+        assertEquals(List.of(3), batchSizes);
+    }
+
+    @Test
+    void 저장에_실패하면_batch_전체의_ack_가_실패한다() {
+        // given
+        writer = new CommentGroupCommitWriter(commentBatchRepository, true, 100, 10, 5, 2000);
+        given(commentBatchRepository.insertAll(anyList())).willThrow(new IllegalStateException("db down"));
+        writer.start();
+
+        // when
+        PendingComment ack = writer.submit("comment", 1L, 1L);
+
+        // then
+        ServerException exception = assertThrows(ServerException.class, () -> writer.await(ack));
+        assertEquals("댓글 저장에 실패했습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 대기열이_가득_차면_예외가_발생한다() {
+        // given
+        writer = new CommentGroupCommitWriter(commentBatchRepository, true, 1, 10, 60_000, 2000);
+        writer.start();
+        writer.submit("first", 1L, 1L);
+
+        // when & then
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () -> writer.submit("second", 1L, 1L));
+        assertEquals("댓글 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", exception.getMessage());
+    }
+
+    @Test
+    void batch_중_일부_댓글만_실패하면_나머지는_한_건씩_다시_저장된다() {
+        // given
+        writer = new CommentGroupCommitWriter(commentBatchRepository, true, 100, 3, 1000, 2000);
+        given(commentBatchRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(comment -> comment.getContents().equals("bad"))) {
+                throw new IllegalStateException("value too long");
+            }
+            return batch.stream().map(comment -> comment.getContents().equals("first") ? 1L : 3L).toList();
+        });
+        writer.start();
+
+        // when
+        PendingComment first = writer.submit("first", 1L, 1L);
+        PendingComment bad = writer.submit("bad", 1L, 1L);
+        PendingComment third = writer.submit("third", 1L, 1L);
+
+        // then
+        assertEquals(1L, writer.await(first));
+        assertEquals(3L, writer.await(third));
+        ServerException exception = assertThrows(ServerException.class, () -> writer.await(bad));
+        assertEquals("댓글 저장에 실패했습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 기다리다_시간이_초과되면_아직_저장_전인_댓글은_취소되어_저장되지_않는다() throws InterruptedException {
+        // given
+        writer = new CommentGroupCommitWriter(commentBatchRepository, true, 100, 10, 60_000, 50);
+        writer.start();
+        PendingComment pendingComment = writer.submit("comment", 1L, 1L);
+
+        // when
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () -> writer.await(pendingComment));
+        writer.stop();
+
+        // then
+        assertEquals("댓글 저장이 지연되어 취소되었습니다. 다시 시도해주세요.", exception.getMessage());
+        verify(commentBatchRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void 인터럽트돼도_이미_저장_중인_댓글은_결과를_기다리고_인터럽트_상태를_남긴다() throws Exception {
+        // given
+        writer = new CommentGroupCommitWriter(commentBatchRepository, true, 100, 1, 1000, 5000);
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(commentBatchRepository.insertAll(anyList())).willAnswer(invocation -> {
+            inserting.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(7L);
+        });
+        writer.start();
+        PendingComment pendingComment = writer.submit("comment", 1L, 1L);
+        assertTrue(inserting.await(5, TimeUnit.SECONDS));
+        Long[] id = new Long[1];
+        boolean[] interrupted = new boolean[1];
+        Thread requestThread = new Thread(() -> {
+            id[0] = writer.await(pendingComment);
+            interrupted[0] = Thread.currentThread().isInterrupted();
+        });
+        requestThread.start();
+
+        // when
+        requestThread.interrupt();
+        release.countDown();
+        requestThread.join(TimeUnit.SECONDS.toMillis(5));
+
+        // then
+        assertEquals(7L, id[0]);
+        assertTrue(interrupted[0]);
+    }
+
+    @Test
+    void 저장_중인_댓글의_결과가_ackTimeout_을_한_번_더_넘기면_확인하지_못했다고_알린다() throws Exception {
+        // given
+        writer = new CommentGroupCommitWriter(commentBatchRepository, true, 100, 1, 1000, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        given(commentBatchRepository.insertAll(anyList())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(7L);
+        });
+        writer.start();
+        PendingComment pendingComment = writer.submit("comment", 1L, 1L);
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> writer.await(pendingComment));
+        release.countDown();
+
+        // then
+        assertEquals(ErrorCode.COMMENT_SAVE_UNCONFIRMED, exception.getErrorCode());
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.PendingComment;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
@@ -12,6 +13,7 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.HotTodoCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -40,6 +44,10 @@ class CommentServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private ManagerRepository managerRepository;
+    @Mock
+    private CommentGroupCommitWriter commentGroupCommitWriter;
+    @Mock
+    private HotTodoCache hotTodoCache;
     @InjectMocks
     private CommentService commentService;
 
@@ -92,6 +100,52 @@ class CommentServiceTest {
     }
 
 
+    @Test
+    void group_commit_모드에서_댓글이_큐를_거쳐_저장된다() {
+        // given
+        long todoId = 1L;
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        Todo todo = new Todo("title", "contents", "weather", user);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+        PendingComment pendingComment = new PendingComment("contents", 1L, todoId);
+
+        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(List.of(new Manager(user, todo)));
+        given(commentGroupCommitWriter.submit("contents", 1L, todoId)).willReturn(pendingComment);
+        given(commentGroupCommitWriter.await(pendingComment)).willReturn(10L);
+
+        // when
+        CommentSaveResponse result = commentService.saveCommentGroupCommit(authUser, todoId, request);
+
+        // then
+        assertEquals(10L, result.getId());
+        assertEquals("contents", result.getContents());
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    void group_commit_모드에서도_매니저가_아니면_큐에_넣지_않는다() {
+        // given
+        long todoId = 1L;
+        CommentSaveRequest request = new CommentSaveRequest("contents");
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        User otherUser = new User("other@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(otherUser, "id", 2L);
+        Todo todo = new Todo("title", "contents", "weather", otherUser);
+        ReflectionTestUtils.setField(todo, "id", todoId);
+
+        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(List.of(new Manager(otherUser, todo)));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentService.saveCommentGroupCommit(authUser, todoId, request));
+        assertEquals("You are not authorized to comment on this todo", exception.getMessage());
+        verify(commentGroupCommitWriter, never()).submit(any(), anyLong(), anyLong());
+    }
+
     @Test
     void 댓글_목록_가져오기_성공() {
         // given
@@ -5,9 +5,12 @@ import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.enums.ManagerSaveStatus;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
@@ -29,6 +32,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ManagerController.class)
@@ -52,7 +56,7 @@ class ManagerControllerTest {
     @BeforeEach
     public void setup() {
         mockMvc = MockMvcBuilders.standaloneSetup(new ManagerController(managerService, jwtUtil))
-                .setControllerAdvice(new GlobalExceptionHandler()) // 예외 처리 핸들러 설정
+                .setControllerAdvice(new GlobalExceptionHandler(new ObjectMapper(), false)) // 예외 처리 핸들러 설정
                 .setCustomArgumentResolvers(authUserArgumentResolver) // AuthUserArgumentResolver 설정
                 .build();
     }
@@ -80,6 +84,31 @@ class ManagerControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void saveManagers_성공() throws Exception {
+        // given
+        long todoId = 1L;
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 3L));
+        List<ManagerBulkSaveResponse> response = List.of(
+                new ManagerBulkSaveResponse(2L, ManagerSaveStatus.SAVED, 1L, new UserResponse(2L, "b@b.com")),
+                new ManagerBulkSaveResponse(3L, ManagerSaveStatus.USER_NOT_FOUND, null, null)
+        );
+
+        given(authUserArgumentResolver.supportsParameter(any())).willReturn(true);
+        given(authUserArgumentResolver.resolveArgument(any(), any(), any(), any()))
+                .willReturn(new AuthUser(1L, "a@a.com", UserRole.USER));
+        given(managerService.saveManagers(any(), anyLong(), any())).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/todos/{todoId}/managers/bulk", todoId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("SAVED"))
+                .andExpect(jsonPath("$[1].status").value("USER_NOT_FOUND"));
+    }
+
     @Test
     void getMembers_성공() throws Exception {
         // given
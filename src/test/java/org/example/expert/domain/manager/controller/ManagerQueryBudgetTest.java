@@ -0,0 +1,83 @@
+package org.example.expert.domain.manager.controller;
+
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ManagerQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    void 담당자_등록은_3개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User owner = saveUser();
+        Todo todo = saveTodo(owner);
+        User managerUser = saveUser();
+        String token = tokenOf(owner);
+
+        // when & then: 일정 조회 + 유저 조회 + 담당자 insert
+        sqlStatementRecorder.assertAtMost(3, () -> mockMvc.perform(post("/todos/{todoId}/managers", todo.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserId\":" + managerUser.getId() + "}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 담당자_일괄_등록은_인원수와_관계없이_4개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User owner = saveUser();
+        Todo todo = saveTodo(owner);
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            userIds.add(String.valueOf(saveUser().getId()));
+        }
+        String token = tokenOf(owner);
+
+        // when & then: 일정 조회 + 유저 일괄 조회 + 기존 담당자 조회 + multi-row insert
+        sqlStatementRecorder.assertAtMost(4, () -> mockMvc.perform(post("/todos/{todoId}/managers/bulk", todo.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerUserIds\":[" + String.join(",", userIds) + "]}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 담당자_목록_조회는_담당자_수와_관계없이_2개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        Todo todo = saveTodo(saveUser());
+        for (int i = 0; i < 10; i++) {
+            saveManager(todo, saveUser());
+        }
+        String token = tokenOf(saveUser());
+
+        // when & then
+        sqlStatementRecorder.assertAtMost(2, () -> mockMvc.perform(get("/todos/{todoId}/managers", todo.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 담당자_삭제는_3개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User owner = saveUser();
+        Todo todo = saveTodo(owner);
+        Manager manager = saveManager(todo, saveUser());
+        String token = tokenOf(owner);
+
+        // when & then: 일정 조회 + 담당자 조회 + delete
+        sqlStatementRecorder.assertAtMost(3, () -> mockMvc.perform(delete("/todos/{todoId}/managers/{managerId}", todo.getId(), manager.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+}
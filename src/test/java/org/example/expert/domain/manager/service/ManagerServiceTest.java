@@ -1,14 +1,20 @@
 package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ErrorCode;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.enums.ManagerSaveStatus;
+import org.example.expert.domain.manager.repository.ManagerBatchRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.HotTodoCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -26,6 +32,10 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,6 +49,10 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ManagerBatchRepository managerBatchRepository;
+    @Mock
+    private HotTodoCache hotTodoCache;
     @InjectMocks
     private ManagerService managerService;
 
@@ -123,6 +137,98 @@ class ManagerServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("Manager 일괄 저장 기능 테스트")
+    class ManagerBulkSaveTests {
+
+        @Test
+        void 유저별로_등록_결과가_반환된다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            User owner = User.fromAuthUser(authUser);
+            long todoId = 1L;
+            Todo todo = new Todo("Title", "Contents", "Sunny", owner);
+            ReflectionTestUtils.setField(todo, "id", todoId);
+
+            User newManager = new User("b@b.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(newManager, "id", 2L);
+            User assignedManager = new User("c@c.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(assignedManager, "id", 3L);
+
+            ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 3L, 1L, 4L, 2L));
+
+            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(userRepository.findAllById(any())).willReturn(List.of(owner, newManager, assignedManager));
+            given(managerRepository.findUserIdsByTodoIdAndUserIdIn(any(), anyCollection())).willReturn(List.of(3L));
+            given(managerBatchRepository.insertAll(todoId, List.of(2L))).willReturn(List.of(10L));
+
+            // when
+            List<ManagerBulkSaveResponse> responses = managerService.saveManagers(authUser, todoId, request);
+
+            // then
+            assertEquals(5, responses.size());
+            assertEquals(ManagerSaveStatus.SAVED, responses.get(0).getStatus());
+            assertEquals(10L, responses.get(0).getId());
+            assertEquals("b@b.com", responses.get(0).getUser().getEmail());
+            assertEquals(ManagerSaveStatus.ALREADY_ASSIGNED, responses.get(1).getStatus());
+            assertEquals(ManagerSaveStatus.SELF_ASSIGNMENT, responses.get(2).getStatus());
+            assertEquals(ManagerSaveStatus.USER_NOT_FOUND, responses.get(3).getStatus());
+            assertNull(responses.get(3).getUser());
+            assertEquals(ManagerSaveStatus.DUPLICATE_IN_REQUEST, responses.get(4).getStatus());
+            assertNull(responses.get(4).getId());
+        }
+
+        @Test
+        void 등록할_유저가_없으면_insert_하지_않는다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            long todoId = 1L;
+            Todo todo = new Todo("Title", "Contents", "Sunny", User.fromAuthUser(authUser));
+            ReflectionTestUtils.setField(todo, "id", todoId);
+
+            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+            given(userRepository.findAllById(any())).willReturn(List.of());
+
+            // when
+            List<ManagerBulkSaveResponse> responses =
+                    managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(List.of(5L)));
+
+            // then
+            assertEquals(ManagerSaveStatus.USER_NOT_FOUND, responses.get(0).getStatus());
+            verify(managerBatchRepository, never()).insertAll(anyLong(), anyList());
+        }
+
+        @Test
+        void 일정의_작성자가_아니면_예외가_발생하고_insert_하지_않는다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            User owner = new User("other@example.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(owner, "id", 2L);
+            long todoId = 1L;
+            Todo todo = new Todo("Title", "Contents", "Sunny", owner);
+            ReflectionTestUtils.setField(todo, "id", todoId);
+            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(List.of(3L))));
+            assertEquals(ErrorCode.INVALID_TODO_OWNER_FOR_MANAGER, exception.getErrorCode());
+            verify(managerBatchRepository, never()).insertAll(anyLong(), anyList());
+        }
+
+        @Test
+        void todo가_없으면_예외가_발생한다() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            given(todoRepository.findById(1L)).willReturn(Optional.empty());
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    managerService.saveManagers(authUser, 1L, new ManagerBulkSaveRequest(List.of(2L))));
+            assertEquals("Todo not found", exception.getMessage());
+        }
+    }
+
     @Nested
     @DisplayName("Manager 조회 기능 테스트")
     class ManagerGetTests {
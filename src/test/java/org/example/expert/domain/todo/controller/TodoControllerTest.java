@@ -52,7 +52,7 @@ class TodoControllerTest {
     @BeforeEach
     public void setup() {
         mockMvc = MockMvcBuilders.standaloneSetup(new TodoController(todoService))
-                .setControllerAdvice(new GlobalExceptionHandler()) // 예외 처리 핸들러 설정
+                .setControllerAdvice(new GlobalExceptionHandler(new ObjectMapper(), false)) // 예외 처리 핸들러 설정
                 .setCustomArgumentResolvers(authUserArgumentResolver) // AuthUserArgumentResolver 설정
                 .build();
     }
@@ -0,0 +1,59 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TodoQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 30})
+    void 일정_목록_조회는_페이지_크기와_관계없이_2개_이하의_SQL_을_실행한다(int size) throws Exception {
+        // given: 작성자가 모두 다른 일정
+        for (int i = 0; i < 30; i++) {
+            saveTodo(saveUser());
+        }
+        String token = tokenOf(saveUser());
+
+        // when & then
+        sqlStatementRecorder.assertAtMost(2, () -> mockMvc.perform(get("/todos")
+                        .param("page", "1")
+                        .param("size", String.valueOf(size))
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 일정_단건_조회는_1개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        Todo todo = saveTodo(saveUser());
+        String token = tokenOf(saveUser());
+
+        // when & then
+        sqlStatementRecorder.assertAtMost(1, () -> mockMvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 일정_생성은_2개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User user = saveUser();
+        String token = tokenOf(user);
+
+        // when & then: 일정 insert + 작성자 담당자 insert
+        sqlStatementRecorder.assertAtMost(2, () -> mockMvc.perform(post("/todos")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"title\",\"contents\":\"contents\"}"))
+                .andExpect(status().isOk()));
+    }
+}
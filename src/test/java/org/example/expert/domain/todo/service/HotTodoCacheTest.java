@@ -0,0 +1,102 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.response.HotTodoResponse;
+import org.example.expert.domain.todo.enums.HotTodoView;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotTodoCacheTest {
+
+    private final long[] now = {0};
+    private final AtomicInteger loads = new AtomicInteger();
+    private final TodoAccessSketch sketch = new TodoAccessSketch(1024, 4, TimeUnit.SECONDS.toNanos(10), () -> now[0]);
+    private final HotTodoCache cache = new HotTodoCache(new SimpleMeterRegistry(), true, sketch, 3, 4,
+            TimeUnit.SECONDS.toNanos(1), () -> now[0]);
+
+    @Test
+    void 조회_수가_기준을_넘기_전에는_캐시하지_않는다() throws Throwable {
+        // when
+        cache.get(1L, HotTodoView.TODO, this::load);
+        cache.get(1L, HotTodoView.TODO, this::load);
+
+        // then
+        assertEquals(2, loads.get());
+        assertFalse(cache.getHeavyHitters().get(0).isCached());
+    }
+
+    @Test
+    void 기준을_넘은_todo_는_ttl_동안_캐시된_결과를_돌려준다() throws Throwable {
+        // given
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, HotTodoView.TODO, this::load);
+        }
+
+        // when
+        Object cached = cache.get(1L, HotTodoView.TODO, this::load);
+        now[0] = TimeUnit.SECONDS.toNanos(1);
+        Object expired = cache.get(1L, HotTodoView.TODO, this::load);
+
+        // then
+        assertEquals("todo-3", cached);
+        assertEquals("todo-4", expired);
+        assertTrue(cache.getHeavyHitters().get(0).isCached());
+    }
+
+    @Test
+    void invalidate_하면_다음_조회는_다시_불러온다() throws Throwable {
+        // given
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, HotTodoView.COMMENTS, this::load);
+        }
+
+        // when
+        cache.invalidate(1L);
+        Object reloaded = cache.get(1L, HotTodoView.COMMENTS, this::load);
+
+        // then
+        assertEquals("todo-4", reloaded);
+    }
+
+    @Test
+    void 불러오는_중에_invalidate_된_결과는_캐시에_남지_않는다() throws Throwable {
+        // given
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, HotTodoView.TODO, this::load);
+        }
+        cache.invalidate(1L);
+
+        // when
+        cache.get(1L, HotTodoView.TODO, () -> {
+            cache.invalidate(1L);
+            return load();
+        });
+        Object next = cache.get(1L, HotTodoView.TODO, this::load);
+
+        // then
+        assertEquals("todo-5", next);
+    }
+
+    @Test
+    void 조회_수가_줄어들면_캐시에서_빠진다() throws Throwable {
+        // given
+        for (int i = 0; i < 4; i++) {
+            cache.get(1L, HotTodoView.TODO, this::load);
+        }
+
+        // when
+        now[0] = TimeUnit.SECONDS.toNanos(10);
+        cache.get(2L, HotTodoView.TODO, this::load);
+
+        // then
+        assertFalse(cache.getHeavyHitters().stream().anyMatch(HotTodoResponse::isCached));
+    }
+
+    private Object load() {
+        return "todo-" + loads.incrementAndGet();
+    }
+}
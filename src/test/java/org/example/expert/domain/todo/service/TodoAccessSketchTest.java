@@ -0,0 +1,68 @@
+package org.example.expert.domain.todo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoAccessSketchTest {
+
+    private final long[] now = {0};
+    private final TodoAccessSketch sketch = new TodoAccessSketch(1024, 3, TimeUnit.SECONDS.toNanos(10), () -> now[0]);
+
+    @Test
+    void 조회_수를_추정하고_가장_많이_조회된_k개를_순서대로_돌려준다() {
+        // given
+        record(1L, 50);
+        record(2L, 10);
+        record(3L, 30);
+        record(4L, 5);
+
+        // when
+        List<TodoAccessSketch.HeavyHitter> hitters = sketch.heavyHitters();
+
+        // then
+        assertEquals(List.of(1L, 3L, 2L), hitters.stream().map(TodoAccessSketch.HeavyHitter::todoId).toList());
+        assertTrue(sketch.estimate(1L) >= 50);
+        assertTrue(sketch.estimate(4L) >= 5);
+    }
+
+    @Test
+    void 새로_많이_조회되는_todo_가_가장_적은_항목을_밀어낸다() {
+        // given
+        record(1L, 50);
+        record(2L, 10);
+        record(3L, 30);
+
+        // when
+        record(4L, 20);
+
+        // then
+        assertEquals(List.of(1L, 3L, 4L), sketch.heavyHitters().stream().map(TodoAccessSketch.HeavyHitter::todoId).toList());
+    }
+
+    @Test
+    void decay_주기가_지나면_횟수가_절반으로_줄어든다() {
+        // given
+        record(1L, 40);
+        record(2L, 1);
+
+        // when
+        now[0] = TimeUnit.SECONDS.toNanos(10);
+        sketch.record(3L);
+
+        // then
+        assertEquals(1, sketch.getDecays());
+        assertEquals(20, sketch.estimate(1L));
+        assertEquals(0, sketch.estimate(2L));
+        assertEquals(List.of(1L, 3L), sketch.heavyHitters().stream().map(TodoAccessSketch.HeavyHitter::todoId).toList());
+    }
+
+    private void record(long todoId, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.record(todoId);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.domain.user.controller;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryBudgetTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserQueryBudgetTest extends QueryBudgetTestSupport {
+
+    @Test
+    void 유저_조회는_1개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User user = saveUser();
+        String token = tokenOf(user);
+
+        // when & then
+        sqlStatementRecorder.assertAtMost(1, () -> mockMvc.perform(get("/users/{userId}", user.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 이메일_prefix_검색은_SQL_을_실행하지_않는다() throws Exception {
+        // given
+        User user = saveUser();
+        String token = tokenOf(user);
+
+        // when & then: in-memory 인덱스에서 조회
+        sqlStatementRecorder.assertAtMost(0, () -> mockMvc.perform(get("/users/search")
+                        .param("prefix", "budget")
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 비밀번호_변경은_2개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User user = saveUser();
+        String token = tokenOf(user);
+
+        // when & then: 유저 조회 + update
+        sqlStatementRecorder.assertAtMost(2, () -> mockMvc.perform(put("/users")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"oldPassword\":\"" + PASSWORD + "\",\"newPassword\":\"NewPassword1234\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 관리자의_권한_변경은_2개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        User user = saveUser();
+        String token = tokenOf(saveUser(UserRole.ADMIN));
+
+        // when & then: 유저 조회 + update
+        sqlStatementRecorder.assertAtMost(2, () -> mockMvc.perform(patch("/admin/users/{userId}", user.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 관리자의_권한_일괄_변경은_인원수와_관계없이_3개_이하의_SQL_을_실행한다() throws Exception {
+        // given
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            userIds.add(String.valueOf(saveUser().getId()));
+        }
+        String token = tokenOf(saveUser(UserRole.ADMIN));
+
+        // when & then: 대상 수 + 변경할 id 조회 + update
+        sqlStatementRecorder.assertAtMost(3, () -> mockMvc.perform(patch("/admin/users/roles")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[" + String.join(",", userIds) + "],\"role\":\"ADMIN\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void 이메일_필터_통계_조회는_SQL_을_실행하지_않는다() throws Exception {
+        // given
+        String token = tokenOf(saveUser(UserRole.ADMIN));
+
+        // when & then
+        sqlStatementRecorder.assertAtMost(0, () -> mockMvc.perform(get("/admin/users/email-filter")
+                        .header("Authorization", token))
+                .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserAdminServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserEmailBloomFilter userEmailBloomFilter;
+    @InjectMocks
+    private UserAdminService userAdminService;
+
+    @Test
+    void 권한이_바뀌면_이전_토큰을_무효화한다() {
+        // given
+        User user = new User("a@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        userAdminService.changeUserRole(1L, new UserRoleChangeRequest("ADMIN"));
+
+        // then
+        assertEquals(UserRole.ADMIN, user.getUserRole());
+        assertNotNull(user.getRoleChangedAt());
+    }
+
+    @Nested
+    @DisplayName("권한 일괄 변경 테스트")
+    class BulkChangeTests {
+
+        @Test
+        void id_목록으로_바뀌어야_하는_유저만_업데이트한다() {
+            // given
+            UserRoleBulkChangeRequest request = new UserRoleBulkChangeRequest(List.of(1L, 2L, 3L, 2L), null, "ADMIN");
+            given(userRepository.countByIdIn(List.of(1L, 2L, 3L))).willReturn(2L);
+            given(userRepository.findIdsByIdInAndUserRoleNot(List.of(1L, 2L, 3L), UserRole.ADMIN)).willReturn(List.of(1L));
+
+            // when
+            UserRoleBulkChangeResponse response = userAdminService.changeUserRoles(request);
+
+            // then
+            assertEquals(2, response.getMatchedCount());
+            assertEquals(1, response.getUpdatedCount());
+            assertEquals(1, response.getUnchangedCount());
+            assertEquals(1, response.getNotFoundCount());
+            verify(userRepository).updateRoleByIdIn(eq(List.of(1L)), eq(UserRole.ADMIN), any(), notNull());
+        }
+
+        @Test
+        void 이메일_도메인으로_chunk_단위_업데이트한다() {
+            // given
+            UserRoleBulkChangeRequest request = new UserRoleBulkChangeRequest(null, "Team.example.com", "USER");
+            String pattern = "%@team.example.com";
+            given(userRepository.countByEmailLike(pattern)).willReturn(3L);
+            given(userRepository.findIdsByEmailLikeAndUserRoleNot(eq(pattern), eq(UserRole.USER), eq(0L), any()))
+                    .willReturn(List.of(5L, 7L));
+            given(userRepository.findIdsByEmailLikeAndUserRoleNot(eq(pattern), eq(UserRole.USER), eq(7L), any()))
+                    .willReturn(List.of());
+
+            // when
+            UserRoleBulkChangeResponse response = userAdminService.changeUserRoles(request);
+
+            // then
+            assertEquals(3, response.getMatchedCount());
+            assertEquals(2, response.getUpdatedCount());
+            assertEquals(1, response.getUnchangedCount());
+            verify(userRepository).updateRoleByIdIn(eq(List.of(5L, 7L)), eq(UserRole.USER), any(), notNull());
+        }
+
+        @Test
+        void 대상_조건이_둘_다_있으면_예외가_발생한다() {
+            // given
+            UserRoleBulkChangeRequest request = new UserRoleBulkChangeRequest(List.of(1L), "example.com", "ADMIN");
+
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                    userAdminService.changeUserRoles(request));
+            assertEquals("userIds 와 emailDomain 중 하나만 지정해야 합니다.", exception.getMessage());
+            verify(userRepository, never()).findIdsByEmailLikeAndUserRoleNot(any(), any(), anyLong(), any());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserEmailFilterStatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailBloomFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private UserEmailBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new UserEmailBloomFilter(jdbcTemplate, 1_000, 0.01);
+    }
+
+    @Test
+    void 워밍업_전에는_항상_있을_수도_있다고_답한다() {
+        assertTrue(filter.mightContain("nobody@example.com"));
+    }
+
+    @Test
+    void 추가한_이메일은_정규화되어_항상_포함된다() {
+        // given
+        ReflectionTestUtils.setField(filter, "ready", true);
+        filter.put("User@Example.com");
+
+        // when & then
+        assertTrue(filter.mightContain("user@example.com"));
+        assertTrue(filter.mightContain(" USER@EXAMPLE.COM "));
+    }
+
+    @Test
+    void 용량을_넘으면_단계가_늘어나도_오탐률이_목표치_근처로_유지된다() {
+        // given
+        ReflectionTestUtils.setField(filter, "ready", true);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com")); // false negative 없음
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        UserEmailFilterStatsResponse stats = filter.getStats();
+        assertTrue(stats.getStages() > 1);
+        assertEquals(20_000, stats.getInsertions());
+        assertTrue(stats.getExpectedFalsePositiveRate() <= 0.02, "expected fpp: " + stats.getExpectedFalsePositiveRate());
+        assertTrue(falsePositives < 20_000 * 0.02, "false positives: " + falsePositives);
+        assertTrue(stats.getSkippedQueries() > 0);
+    }
+}
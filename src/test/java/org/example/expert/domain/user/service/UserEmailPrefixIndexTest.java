@@ -0,0 +1,94 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailPrefixIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private UserEmailPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserEmailPrefixIndex(jdbcTemplate, Runnable::run);
+        index.add(3L, "bob@example.com");
+        index.add(1L, "Alice@example.com");
+        index.add(2L, "alex@example.com");
+        index.add(4L, "carol@example.com");
+    }
+
+    @Test
+    void prefix로_시작하는_email이_사전순으로_반환된다() {
+        // when
+        List<UserResponse> result = index.search("AL", 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), result.stream().map(UserResponse::getId).toList());
+        assertEquals("alex@example.com", result.get(0).getEmail());
+    }
+
+    @Test
+    void limit_개수만큼만_반환된다() {
+        // when
+        List<UserResponse> result = index.search("a", 1);
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(2L, result.get(0).getId());
+    }
+
+    @Test
+    void 일치하는_email이_없으면_빈_목록을_반환한다() {
+        assertTrue(index.search("zed", 10).isEmpty());
+    }
+
+    @Test
+    void 스냅샷으로_병합된_이후에도_검색된다() {
+        // given - 병합 기준(4096)을 넘도록 추가
+        for (long id = 100; id < 5000; id++) {
+            index.add(id, "user" + id + "@example.com");
+        }
+
+        // when
+        List<UserResponse> result = index.search("user4999", 10);
+
+        // then
+        assertEquals(List.of(4999L), result.stream().map(UserResponse::getId).toList());
+        assertEquals(List.of(1L, 2L), index.search("al", 10).stream().map(UserResponse::getId).sorted().toList());
+        assertEquals(4904, index.size());
+    }
+
+    @Test
+    void 병합은_추가한_스레드가_아니라_따로_예약되어_실행된다() {
+        // given
+        List<Runnable> scheduled = new ArrayList<>();
+        UserEmailPrefixIndex backgroundIndex = new UserEmailPrefixIndex(jdbcTemplate, scheduled::add);
+
+        // when
+        for (long id = 0; id < 5000; id++) {
+            backgroundIndex.add(id, "user" + id + "@example.com");
+        }
+
+        // then - 병합 전에도, 병합 후에도 같은 결과
+        assertEquals(1, scheduled.size());
+        assertEquals(List.of(4999L), backgroundIndex.search("user4999", 10).stream().map(UserResponse::getId).toList());
+        scheduled.get(0).run();
+        assertEquals(List.of(4999L), backgroundIndex.search("user4999", 10).stream().map(UserResponse::getId).toList());
+        assertEquals(List.of(0L), backgroundIndex.search("user0@", 10).stream().map(UserResponse::getId).toList());
+        assertEquals(5000, backgroundIndex.size());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UserRoleChangeCheckerTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private UserRoleChangeChecker checker;
+
+    @Test
+    void 같은_ms_라도_변경_이후에_발급된_토큰은_유효하다() {
+        // given
+        User user = new User("a@a.com", "password", UserRole.USER);
+        user.updateRole(UserRole.ADMIN);
+        given(userRepository.findByIdFromPrimary(1L)).willReturn(Optional.of(user));
+        long changedAt = user.getRoleChangedAt().toEpochMilli();
+
+        // when & then
+        assertTrue(checker.isStale(1L, UserRole.ADMIN, changedAt - 1));
+        assertTrue(checker.isStale(1L, UserRole.ADMIN, changedAt));
+        assertFalse(checker.isStale(1L, UserRole.ADMIN, changedAt + 1));
+    }
+
+    @Test
+    void 변경_commit_전에_이전_권한으로_발급된_토큰은_권한이_달라_거부된다() {
+        // given: 변경 시각 이후에 발급되었지만, commit 전에 이전 권한(USER)을 읽어 발급된 토큰
+        User user = new User("a@a.com", "password", UserRole.ADMIN);
+        ReflectionTestUtils.setField(user, "roleChangedAt", Instant.ofEpochMilli(1_000));
+        given(userRepository.findByIdFromPrimary(1L)).willReturn(Optional.of(user));
+
+        // when & then
+        assertTrue(checker.isStale(1L, UserRole.USER, 2_000L));
+    }
+
+    @Test
+    void 권한이_바뀐_적_없거나_없는_유저면_거부하지_않는다() {
+        // given
+        given(userRepository.findByIdFromPrimary(1L)).willReturn(Optional.of(new User("a@a.com", "password", UserRole.USER)));
+        given(userRepository.findByIdFromPrimary(2L)).willReturn(Optional.empty());
+
+        // when & then
+        assertFalse(checker.isStale(1L, UserRole.USER, null));
+        assertFalse(checker.isStale(2L, UserRole.USER, 1_000L));
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.expert.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfSamplerTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void 순위별_빈도가_1_나누기_k_의_exponent_제곱에_비례한다() {
+        // given
+        int n = 100;
+        double exponent = 1.0;
+        ZipfSampler sampler = new ZipfSampler(n, exponent);
+
+        // when
+        int[] counts = sample(sampler, n, new SplittableRandom(42));
+
+        // then - 상위 순위의 빈도가 이론값과 3% 안에서 맞는다
+        double normalization = 0;
+        for (int k = 1; k <= n; k++) {
+            normalization += 1 / Math.pow(k, exponent);
+        }
+        for (int k = 1; k <= 10; k++) {
+            double expected = SAMPLES / Math.pow(k, exponent) / normalization;
+            assertEquals(expected, counts[k], expected * 0.03, "rank " + k);
+        }
+        assertEquals(2.0, (double) counts[1] / counts[2], 0.1);
+    }
+
+    @Test
+    void exponent_가_클수록_1순위에_더_몰린다() {
+        // given
+        int n = 1000;
+
+        // when
+        int[] mild = sample(new ZipfSampler(n, 0.8), n, new SplittableRandom(7));
+        int[] steep = sample(new ZipfSampler(n, 1.5), n, new SplittableRandom(7));
+
+        // then
+        assertTrue(steep[1] > mild[1] * 2, "steep=" + steep[1] + ", mild=" + mild[1]);
+    }
+
+    @Test
+    void exponent_가_0_이면_균등_분포다() {
+        // given
+        int n = 10;
+        ZipfSampler sampler = new ZipfSampler(n, 0);
+
+        // when
+        int[] counts = sample(sampler, n, new SplittableRandom(1));
+
+        // then
+        for (int k = 1; k <= n; k++) {
+            assertEquals(SAMPLES / (double) n, counts[k], SAMPLES / (double) n * 0.05, "rank " + k);
+        }
+    }
+
+    @Test
+    void 원소가_하나면_항상_1을_반환한다() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(1, 1.2);
+        SplittableRandom random = new SplittableRandom(3);
+
+        // when & then
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(1, sampler.sample(random));
+        }
+    }
+
+    @Test
+    void 잘못된_인자는_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(10, -0.5));
+    }
+
+    // counts[k] = 순위 k 가 나온 횟수. 범위를 벗어난 값이 나오면 실패합니다.
+    private static int[] sample(ZipfSampler sampler, int n, SplittableRandom random) {
+        int[] counts = new int[n + 1];
+        for (int i = 0; i < SAMPLES; i++) {
+            int rank = sampler.sample(random);
+            assertTrue(rank >= 1 && rank <= n, "rank out of range: " + rank);
+            counts[rank]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.support;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 엔드포인트별 SQL statement budget 테스트의 공통 설정.
+ * 실제 컨텍스트(H2)와 JwtFilter 를 거쳐 요청하고, 외부 날씨 API 만 mock 으로 바꿉니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlStatementRecorder.Config.class)
+public abstract class QueryBudgetTestSupport {
+
+    protected static final String PASSWORD = "Password1234";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    protected MockMvc mockMvc;
+    @Autowired
+    protected SqlStatementRecorder sqlStatementRecorder;
+    @Autowired
+    protected JwtUtil jwtUtil;
+    @Autowired
+    protected PasswordEncoder passwordEncoder;
+    @Autowired
+    protected UserRepository userRepository;
+    @Autowired
+    protected TodoRepository todoRepository;
+    @Autowired
+    protected ManagerRepository managerRepository;
+    @Autowired
+    protected CommentRepository commentRepository;
+
+    @MockBean
+    protected WeatherClient weatherClient;
+
+    @BeforeEach
+    void stubWeather() {
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+    }
+
+    protected User saveUser(UserRole userRole) {
+        String email = "budget" + SEQUENCE.incrementAndGet() + "@example.com";
+        return userRepository.save(new User(email, passwordEncoder.encode(PASSWORD), userRole));
+    }
+
+    protected User saveUser() {
+        return saveUser(UserRole.USER);
+    }
+
+    // 작성자는 Todo 생성 시 담당자로 함께 저장됩니다.
+    protected Todo saveTodo(User owner) {
+        return todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+    }
+
+    protected Manager saveManager(Todo todo, User user) {
+        return managerRepository.save(new Manager(user, todo));
+    }
+
+    protected Comment saveComment(Todo todo, User user) {
+        return commentRepository.save(new Comment("comment", user, todo));
+    }
+
+    // 실제 토큰은 로그인에서 받고, 로그인은 유저를 2차 캐시에 올립니다. (JwtFilter 의 권한 변경 확인은 캐시에서 읽음)
+    protected String tokenOf(User user) {
+        userRepository.findByIdFromPrimary(user.getId());
+        return jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+    }
+}
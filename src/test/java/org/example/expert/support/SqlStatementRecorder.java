@@ -0,0 +1,84 @@
+package org.example.expert.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트에서 요청 하나가 실행한 SQL 을 모아 statement 수 budget 을 검사합니다.
+ * DataSourceProxyBeanPostProcessor 가 QueryExecutionListener 빈을 모두 붙이므로 빈으로 등록만 하면 됩니다.
+ *
+ * <pre>
+ * sqlStatementRecorder.assertAtMost(2, () -> mockMvc.perform(get("/todos")...));
+ * </pre>
+ */
+public class SqlStatementRecorder implements QueryExecutionListener {
+
+    // MockMvc 는 테스트 스레드에서 요청을 처리하므로 현재 스레드의 SQL 만 모읍니다.
+    private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> statements = recording.get();
+        if (statements == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            statements.add(queryInfo.getQuery());
+        }
+    }
+
+    /**
+     * action 이 실행한 SQL 을 반환합니다.
+     */
+    public List<String> record(ThrowingRunnable action) throws Exception {
+        List<String> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            action.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    /**
+     * action 이 budget 개보다 많은 SQL 을 실행하면 실행된 SQL 목록과 함께 실패합니다.
+     */
+    public List<String> assertAtMost(int budget, ThrowingRunnable action) throws Exception {
+        List<String> statements = record(action);
+        if (statements.size() > budget) {
+            StringBuilder message = new StringBuilder()
+                    .append("SQL statement budget exceeded: expected at most ").append(budget)
+                    .append(" but was ").append(statements.size());
+            for (int i = 0; i < statements.size(); i++) {
+                message.append("\n  ").append(i + 1).append(". ").append(statements.get(i));
+            }
+            throw new AssertionError(message.toString());
+        }
+        return statements;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public SqlStatementRecorder sqlStatementRecorder() {
+            return new SqlStatementRecorder();
+        }
+    }
+}